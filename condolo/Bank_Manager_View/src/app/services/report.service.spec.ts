@@ -1,15 +1,18 @@
 import { TestBed } from '@angular/core/testing';
-import { HttpClientTestingModule } from '@angular/common/http/testing';
+import { HttpClientTestingModule, HttpTestingController } from '@angular/common/http/testing';
 import { ReportService, DashboardStats } from './report.service';
 import { CustomerService } from './customer.service';
 import { AccountService } from './account.service';
 import { of } from 'rxjs';
 import { Customer, Account, Transaction } from '../models/bank.models';
+import { environment } from '../../environments/environment';
 
 describe('ReportService', () => {
   let service: ReportService;
   let customerService: jasmine.SpyObj<CustomerService>;
   let accountService: jasmine.SpyObj<AccountService>;
+  let httpMock: HttpTestingController;
+  const statsUrl = `${environment.api.accountService}/dashboard/stats`;
 
   // Mock data
   const mockCustomers: Customer[] = [
@@ -84,6 +87,11 @@ describe('ReportService', () => {
     service = TestBed.inject(ReportService);
     customerService = TestBed.inject(CustomerService) as jasmine.SpyObj<CustomerService>;
     accountService = TestBed.inject(AccountService) as jasmine.SpyObj<AccountService>;
+    httpMock = TestBed.inject(HttpTestingController);
+  });
+
+  afterEach(() => {
+    httpMock.verify();
   });
 
   describe('Service Initialization', () => {
@@ -93,14 +101,17 @@ describe('ReportService', () => {
   });
 
   describe('getDashboardStats', () => {
-    beforeEach(() => {
-      // Configurar respuestas de los mocks
-      customerService.getAllCustomersSimple.and.returnValue(of(mockCustomers));
-      accountService.getAllAccountsSimple.and.returnValue(of(mockAccounts));
-      accountService.getAllTransactionsSimple.and.returnValue(of(mockTransactions));
-    });
-
-    it('should return correct dashboard statistics', (done) => {
+    const serverStats = {
+      totalCustomers: 2,
+      activeCustomers: 1,
+      totalAccounts: 2,
+      activeAccounts: 2,
+      totalTransactions: 2,
+      todayTransactions: 2,
+      totalBalance: 1500.00
+    };
+
+    it('should return the dashboard statistics computed by the server', (done) => {
       // Act
       service.getDashboardStats().subscribe((stats: DashboardStats) => {
         // Assert
@@ -109,48 +120,26 @@ describe('ReportService', () => {
         expect(stats.totalAccounts).toBe(2);
         expect(stats.activeAccounts).toBe(2);
         expect(stats.totalTransactions).toBe(2);
+        expect(stats.todayTransactions).toBe(2);
         expect(stats.totalBalance).toBe(1500.00);
         expect(typeof stats.monthlyGrowth).toBe('number');
         done();
       });
-    });
 
-    it('should calculate active customers correctly', (done) => {
-      // Act
-      service.getDashboardStats().subscribe((stats: DashboardStats) => {
-        // Assert - Solo 1 customer activo (status 'A')
-        expect(stats.activeCustomers).toBe(1);
-        expect(stats.totalCustomers).toBe(2);
-        done();
-      });
+      const req = httpMock.expectOne(statsUrl);
+      expect(req.request.method).toBe('GET');
+      req.flush(serverStats);
     });
 
-    it('should calculate total balance correctly', (done) => {
+    it('should not download customers, accounts or transactions', () => {
       // Act
-      service.getDashboardStats().subscribe((stats: DashboardStats) => {
-        // Assert - Suma de initialBalance: 1000 + 500 = 1500
-        expect(stats.totalBalance).toBe(1500.00);
-        done();
-      });
-    });
-
-    it('should handle empty data gracefully', (done) => {
-      // Arrange - Configurar datos vacíos
-      customerService.getAllCustomersSimple.and.returnValue(of([]));
-      accountService.getAllAccountsSimple.and.returnValue(of([]));
-      accountService.getAllTransactionsSimple.and.returnValue(of([]));
+      service.getDashboardStats().subscribe();
+      httpMock.expectOne(statsUrl).flush(serverStats);
 
-      // Act
-      service.getDashboardStats().subscribe((stats: DashboardStats) => {
-        // Assert
-        expect(stats.totalCustomers).toBe(0);
-        expect(stats.activeCustomers).toBe(0);
-        expect(stats.totalAccounts).toBe(0);
-        expect(stats.activeAccounts).toBe(0);
-        expect(stats.totalTransactions).toBe(0);
-        expect(stats.totalBalance).toBe(0);
-        done();
-      });
+      // Assert
+      expect(customerService.getAllCustomersSimple).not.toHaveBeenCalled();
+      expect(accountService.getAllAccountsSimple).not.toHaveBeenCalled();
+      expect(accountService.getAllTransactionsSimple).not.toHaveBeenCalled();
     });
   });
 
@@ -314,12 +303,6 @@ describe('ReportService', () => {
 
   describe('Error Handling', () => {
     it('should handle service errors gracefully', (done) => {
-      // Arrange
-      const errorMessage = 'Service unavailable';
-      customerService.getAllCustomersSimple.and.throwError(errorMessage);
-      accountService.getAllAccountsSimple.and.returnValue(of(mockAccounts));
-      accountService.getAllTransactionsSimple.and.returnValue(of(mockTransactions));
-
       // Act & Assert
       service.getDashboardStats().subscribe({
         next: () => fail('Should have thrown an error'),
@@ -328,6 +311,8 @@ describe('ReportService', () => {
           done();
         }
       });
+
+      httpMock.expectOne(statsUrl).flush('Service unavailable', { status: 503, statusText: 'Service Unavailable' });
     });
   });
 });
\ No newline at end of file
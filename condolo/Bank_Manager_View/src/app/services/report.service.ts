@@ -36,39 +36,13 @@ export class ReportService {
     private accountService: AccountService
   ) { }
 
-  // Obtener estadísticas del dashboard
+  // Obtener estadísticas del dashboard (contadores mantenidos por el servicio de cuentas)
   getDashboardStats(): Observable<DashboardStats> {
-    return combineLatest([
-      this.customerService.getAllCustomersSimple(),
-      this.accountService.getAllAccountsSimple(),
-      this.accountService.getAllTransactionsSimple()
-    ]).pipe(
-      map(([customers, accounts, transactions]) => {
-        const today = new Date();
-        today.setHours(0, 0, 0, 0);
-        
-        const todayTransactions = transactions.filter(t => {
-          const transactionDate = new Date(t.date);
-          transactionDate.setHours(0, 0, 0, 0);
-          return transactionDate.getTime() === today.getTime();
-        }).length;
-
-        const totalBalance = accounts.reduce((sum, account) => sum + account.initialBalance, 0);
-        
-        const activeCustomers = customers.filter(c => c.status === 'A').length;
-        const activeAccounts = accounts.filter(a => a.status === 'A').length;
-
-        return {
-          totalCustomers: customers.length,
-          activeCustomers,
-          totalAccounts: accounts.length,
-          activeAccounts,
-          totalTransactions: transactions.length,
-          todayTransactions,
-          totalBalance,
-          monthlyGrowth: 5.2 // Este valor podría calcularse basado en datos históricos
-        };
-      })
+    return this.http.get<Omit<DashboardStats, 'monthlyGrowth'>>(`${environment.api.accountService}/dashboard/stats`).pipe(
+      map(stats => ({
+        ...stats,
+        monthlyGrowth: 5.2 // Este valor podría calcularse basado en datos históricos
+      }))
     );
   }
 
@@ -4,6 +4,8 @@ CREATE DATABASE pichincha_customers;
 
 USE pichincha_customers;
 
+DROP TABLE IF EXISTS pichincha_customers.customer_changes;
+
 DROP TABLE IF EXISTS pichincha_customers.customers;
 
 DROP TABLE IF EXISTS pichincha_customers.persons;
@@ -26,6 +28,14 @@ CREATE TABLE pichincha_customers.customers (
     CONSTRAINT fk_persons FOREIGN KEY (person_id) REFERENCES pichincha_customers.persons(person_id) ON DELETE CASCADE
 );
 
+CREATE TABLE pichincha_customers.customer_changes (
+    change_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    customer_id VARCHAR(36) NOT NULL,
+    status CHAR(1),
+    change_type VARCHAR(16) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
 DROP DATABASE IF EXISTS pichincha_accounts;
 
 CREATE DATABASE pichincha_accounts;
@@ -36,6 +46,8 @@ DROP TABLE IF EXISTS pichincha_accounts.transactions;
 
 DROP TABLE IF EXISTS pichincha_accounts.accounts;
 
+DROP TABLE IF EXISTS pichincha_accounts.customer_status;
+
 CREATE TABLE pichincha_accounts.accounts (
     account_id VARCHAR(36) PRIMARY KEY, 
     customer_id VARCHAR(36) NOT NULL,
@@ -48,9 +60,38 @@ CREATE TABLE pichincha_accounts.accounts (
 CREATE TABLE pichincha_accounts.transactions (
     transaction_id VARCHAR(36) PRIMARY KEY, 
     account_id VARCHAR(36) NOT NULL,
+    customer_id VARCHAR(36),
     date TIMESTAMP NOT NULL,
     transaction_type VARCHAR(255) NOT NULL,
     amount DECIMAL(18, 2) NOT NULL,
     balance DECIMAL(18, 2) NOT NULL,
+    idempotency_key VARCHAR(64) UNIQUE,
+    transfer_id VARCHAR(36),
     CONSTRAINT fk_account FOREIGN KEY (account_id) REFERENCES pichincha_accounts.accounts(account_id)
 );
+
+CREATE INDEX idx_transactions_transfer ON pichincha_accounts.transactions (transfer_id);
+
+CREATE INDEX idx_transactions_customer_date ON pichincha_accounts.transactions (customer_id, date);
+
+CREATE INDEX idx_transactions_date_id ON pichincha_accounts.transactions (date, transaction_id);
+
+CREATE TABLE pichincha_accounts.customer_status (
+    customer_id VARCHAR(36) PRIMARY KEY,
+    status CHAR(1) NOT NULL,
+    last_change_id BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE pichincha_accounts.daily_account_balance (
+    account_id VARCHAR(36) NOT NULL,
+    balance_date DATE NOT NULL,
+    credits DECIMAL(18, 2) NOT NULL,
+    debits DECIMAL(18, 2) NOT NULL,
+    movements BIGINT NOT NULL,
+    closing_balance DECIMAL(18, 2) NOT NULL,
+    PRIMARY KEY (account_id, balance_date),
+    CONSTRAINT fk_daily_balance_account FOREIGN KEY (account_id) REFERENCES pichincha_accounts.accounts(account_id)
+);
+
+CREATE INDEX idx_daily_balance_date ON pichincha_accounts.daily_account_balance (balance_date);
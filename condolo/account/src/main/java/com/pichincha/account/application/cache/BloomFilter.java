@@ -0,0 +1,93 @@
+package com.pichincha.account.application.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free Bloom filter over strings. {@link #mightContain(String)} never answers {@code false} for a
+ * value that was {@link #put(String) put}; a {@code true} answer is wrong with roughly the configured
+ * probability while the filter holds no more than the expected number of insertions.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    private final LongAdder bitsSet = new LongAdder();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive and probability in (0, 1)");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray(Math.toIntExact((bits + 63) / 64));
+        this.bitCount = this.words.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= this.hashCount; i++) {
+            this.setBit(index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= this.hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((this.words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * False-positive probability implied by the current fill ratio, i.e. the chance that an absent
+     * value finds all of its bits already set.
+     */
+    public double expectedFalsePositiveProbability() {
+        return Math.pow((double) this.bitsSet.sum() / this.bitCount, this.hashCount);
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % this.bitCount;
+    }
+
+    private void setBit(long bit) {
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = this.words.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!this.words.compareAndSet(word, current, current | mask));
+        this.bitsSet.increment();
+    }
+
+    /** 64-bit FNV-1a followed by the MurmurHash3 finalizer to spread the low and high halves. */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe1f9d2c3L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,104 @@
+package com.pichincha.account.application.cache;
+
+import com.pichincha.account.application.input.port.CustomerService;
+import com.pichincha.account.domain.external.Customer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded in-process cache in front of the customer-service lookups. Found customers live for
+ * {@code customer.cache.ttl}, which is the staleness window for status changes; not-found answers are
+ * cached for the shorter {@code customer.cache.negative-ttl} and reported as {@code null}. Misses go
+ * through the coalescing client, so concurrent misses become one bulk request.
+ */
+@Primary
+@Component
+public class CachingCustomerService implements CustomerService {
+
+    private final CustomerService customerClient;
+
+    private final ExpiringLruCache<String, Optional<Customer>> customers;
+
+    private final Duration negativeTtl;
+
+    public CachingCustomerService(@Qualifier("coalescingCustomerService") CustomerService customerClient,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${customer.cache.max-size:10000}") int maxSize,
+                                  @Value("${customer.cache.ttl:PT30S}") Duration ttl,
+                                  @Value("${customer.cache.negative-ttl:PT10S}") Duration negativeTtl) {
+        this.customerClient = customerClient;
+        this.customers = new ExpiringLruCache<>(maxSize, ttl);
+        this.negativeTtl = negativeTtl;
+        FunctionCounter.builder("customer.cache.gets", this.customers, ExpiringLruCache::hits)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("customer.cache.gets", this.customers, ExpiringLruCache::misses)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("customer.cache.evictions", this.customers, ExpiringLruCache::evictions)
+                .register(meterRegistry);
+        Gauge.builder("customer.cache.size", this.customers, ExpiringLruCache::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Customer findById(String id) {
+        Optional<Customer> cached = this.customers.get(id);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        Customer customer = this.customerClient.findById(id);
+        this.remember(id, customer);
+        return customer;
+    }
+
+    @Override
+    public Map<String, Customer> findByIds(Collection<String> ids) {
+        Map<String, Customer> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String id : ids) {
+            Optional<Customer> cached = this.customers.get(id);
+            if (cached == null) {
+                missing.add(id);
+            } else {
+                cached.ifPresent(customer -> found.put(id, customer));
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<String, Customer> loaded = this.customerClient.findByIds(missing);
+            for (String id : missing) {
+                Customer customer = loaded == null ? null : loaded.get(id);
+                this.remember(id, customer);
+                if (customer != null) {
+                    found.put(id, customer);
+                }
+            }
+        }
+        return found;
+    }
+
+    public void invalidate(String id) {
+        this.customers.invalidate(id);
+    }
+
+    private void remember(String id, Customer customer) {
+        if (customer == null) {
+            this.customers.put(id, Optional.empty(), this.negativeTtl);
+        } else {
+            this.customers.put(id, Optional.of(customer));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.pichincha.account.application.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Size-bounded, access-ordered cache whose entries also expire after a time to live.
+ * Expired entries are dropped lazily on read; the least recently used entry is evicted when full.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final Map<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringLruCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean evict = size() > ExpiringLruCache.this.maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = this.entries.get(key);
+        if (entry == null) {
+            this.misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            this.entries.remove(key);
+            this.misses.increment();
+            return null;
+        }
+        this.hits.increment();
+        return entry.value();
+    }
+
+    public void put(K key, V value) {
+        this.put(key, value, this.ttlNanos);
+    }
+
+    public void put(K key, V value, Duration ttl) {
+        this.put(key, value, ttl.toNanos());
+    }
+
+    public synchronized void invalidate(K key) {
+        this.entries.remove(key);
+    }
+
+    public synchronized void invalidateIf(Predicate<K> predicate) {
+        this.entries.keySet().removeIf(predicate);
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    public long evictions() {
+        return this.evictions.sum();
+    }
+
+    private synchronized void put(K key, V value, long ttlNanos) {
+        this.entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - this.expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.pichincha.account.application.cache;
+
+import com.pichincha.account.application.output.port.TransactionOutPort;
+import com.pichincha.account.domain.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Remembers the transaction created for each idempotency key. Recent keys are served from a bounded
+ * in-memory index; older ones fall back to the unique idempotency_key column.
+ */
+@Component
+public class IdempotencyKeyStore {
+
+    private final TransactionOutPort transactionOutPort;
+
+    private final ExpiringLruCache<String, Transaction> recentKeys;
+
+    public IdempotencyKeyStore(TransactionOutPort transactionOutPort,
+                               @Value("${account.idempotency.max-keys:100000}") int maxKeys,
+                               @Value("${account.idempotency.ttl:PT24H}") Duration ttl) {
+        this.transactionOutPort = transactionOutPort;
+        this.recentKeys = new ExpiringLruCache<>(maxKeys, ttl);
+    }
+
+    public Optional<Transaction> find(String idempotencyKey) {
+        Transaction transaction = this.recentKeys.get(idempotencyKey);
+        if (transaction != null) {
+            return Optional.of(transaction);
+        }
+        Optional<Transaction> stored = this.transactionOutPort.findByIdempotencyKey(idempotencyKey);
+        stored.ifPresent(value -> this.recentKeys.put(idempotencyKey, value));
+        return stored;
+    }
+
+    public void remember(String idempotencyKey, Transaction transaction) {
+        this.recentKeys.put(idempotencyKey, transaction);
+    }
+}
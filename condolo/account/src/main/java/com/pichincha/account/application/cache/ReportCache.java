@@ -0,0 +1,195 @@
+package com.pichincha.account.application.cache;
+
+import com.pichincha.account.domain.Report;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded LRU cache of report pages keyed by customer, date range and page. Entries are indexed
+ * by customer, so a posting only drops the cached pages of its customer whose range covers the posting
+ * date. Loads take a {@link #stamp(String)} before querying and {@link #put} discards the result if
+ * the customer was invalidated meanwhile, so a page read before a commit is never cached after it.
+ * The memory footprint is an estimate from the number of cached transaction rows.
+ */
+@Component
+public class ReportCache {
+
+    private static final long ENTRY_BYTES = 512;
+
+    private static final long TRANSACTION_BYTES = 640;
+
+    private static final int STAMP_STRIPES = 1024;
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final Map<Key, Entry> entries;
+
+    private final Map<String, Set<Key>> keysByCustomer = new HashMap<>();
+
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    private long estimatedBytes;
+
+    public ReportCache(MeterRegistry meterRegistry,
+                       @Value("${account.report.cache.max-size:1000}") int maxSize,
+                       @Value("${account.report.cache.ttl:PT10M}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        FunctionCounter.builder("account.report.cache.gets", this.hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("account.report.cache.gets", this.misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("account.report.cache.evictions", this.evictions, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("account.report.cache.invalidations", this.invalidations, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("account.report.cache.hit.ratio", this, ReportCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("account.report.cache.size", this, ReportCache::size)
+                .register(meterRegistry);
+        Gauge.builder("account.report.cache.estimated.bytes", this, ReportCache::estimatedBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public long stamp(String customerId) {
+        return this.stamps.get(stripe(customerId));
+    }
+
+    public synchronized Report get(Key key) {
+        Entry entry = this.entries.get(key);
+        if (entry == null) {
+            this.misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt() >= 0) {
+            this.remove(key);
+            this.misses.increment();
+            return null;
+        }
+        this.hits.increment();
+        return entry.report();
+    }
+
+    public synchronized void put(Key key, Report report, long stamp) {
+        if (this.stamp(key.customerId()) != stamp) {
+            return;
+        }
+        this.remove(key);
+        Entry entry = new Entry(report, System.nanoTime() + this.ttlNanos, footprint(report));
+        this.entries.put(key, entry);
+        this.keysByCustomer.computeIfAbsent(key.customerId(), customerId -> new HashSet<>()).add(key);
+        this.estimatedBytes += entry.bytes();
+        Iterator<Map.Entry<Key, Entry>> eldest = this.entries.entrySet().iterator();
+        while (this.entries.size() > this.maxSize) {
+            Map.Entry<Key, Entry> evicted = eldest.next();
+            eldest.remove();
+            this.unindex(evicted.getKey(), evicted.getValue());
+            this.evictions.increment();
+        }
+    }
+
+    /**
+     * Drops the cached pages of the customer whose date range contains {@code date}. Call it once the
+     * change is committed.
+     */
+    public synchronized void invalidate(String customerId, LocalDateTime date) {
+        this.stamps.incrementAndGet(stripe(customerId));
+        Set<Key> keys = this.keysByCustomer.get(customerId);
+        if (keys == null) {
+            return;
+        }
+        keys.stream()
+                .filter(key -> date == null || key.covers(date))
+                .toList()
+                .forEach(key -> {
+                    this.remove(key);
+                    this.invalidations.increment();
+                });
+    }
+
+    public void invalidate(String customerId) {
+        this.invalidate(customerId, null);
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public synchronized long estimatedBytes() {
+        return this.estimatedBytes;
+    }
+
+    public double hitRatio() {
+        long hitCount = this.hits.sum();
+        long total = hitCount + this.misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private void remove(Key key) {
+        Entry removed = this.entries.remove(key);
+        if (removed != null) {
+            this.unindex(key, removed);
+        }
+    }
+
+    private void unindex(Key key, Entry entry) {
+        this.estimatedBytes -= entry.bytes();
+        Set<Key> keys = this.keysByCustomer.get(key.customerId());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                this.keysByCustomer.remove(key.customerId());
+            }
+        }
+    }
+
+    private static long footprint(Report report) {
+        long rows = report.getTransactions() == null ? 0 : report.getTransactions().getNumberOfElements();
+        return ENTRY_BYTES + rows * TRANSACTION_BYTES;
+    }
+
+    private static int stripe(String customerId) {
+        int hash = Objects.hashCode(customerId);
+        return Math.floorMod(hash ^ (hash >>> 16), STAMP_STRIPES);
+    }
+
+    public record Key(String customerId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+
+        boolean covers(LocalDateTime date) {
+            return !date.isBefore(this.startDate) && !date.isAfter(this.endDate);
+        }
+    }
+
+    private record Entry(Report report, long expiresAt, long bytes) {
+    }
+}
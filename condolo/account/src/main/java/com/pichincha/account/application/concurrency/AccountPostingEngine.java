@@ -0,0 +1,72 @@
+package com.pichincha.account.application.concurrency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes postings per account with a striped lock and runs each posting in its own
+ * READ_COMMITTED transaction, committed before the stripe is released. Postings that touch several
+ * accounts take their stripes in ascending stripe order, so they cannot deadlock each other.
+ */
+@Component
+public class AccountPostingEngine {
+
+    private final ReentrantLock[] stripes;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public AccountPostingEngine(PlatformTransactionManager transactionManager,
+                                @Value("${account.posting.lock-stripes:256}") int lockStripes) {
+        this.stripes = new ReentrantLock[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    public <T> T post(String accountId, Supplier<T> posting) {
+        ReentrantLock lock = this.stripeFor(accountId);
+        lock.lock();
+        try {
+            return this.transactionTemplate.execute(status -> posting.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public <T> T post(Collection<String> accountIds, Supplier<T> posting) {
+        List<ReentrantLock> locks = accountIds.stream()
+                .map(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .map(index -> this.stripes[index])
+                .toList();
+        locks.forEach(ReentrantLock::lock);
+        try {
+            return this.transactionTemplate.execute(status -> posting.get());
+        } finally {
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+        }
+    }
+
+    private ReentrantLock stripeFor(String accountId) {
+        return this.stripes[this.stripeIndex(accountId)];
+    }
+
+    private int stripeIndex(String accountId) {
+        int hash = Objects.hashCode(accountId);
+        return Math.floorMod(hash ^ (hash >>> 16), this.stripes.length);
+    }
+}
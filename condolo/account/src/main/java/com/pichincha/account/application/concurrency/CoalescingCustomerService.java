@@ -0,0 +1,137 @@
+package com.pichincha.account.application.concurrency;
+
+import com.pichincha.account.application.input.port.CustomerService;
+import com.pichincha.account.domain.external.Customer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collapses {@link #findById(String)} calls made within {@code customer.lookup.batch-window} of each
+ * other into one bulk lookup against customer-service. Concurrent callers asking for the same id
+ * share a single in-flight request. Customers missing from the bulk answer resolve to {@code null}.
+ */
+@Slf4j
+@Component("coalescingCustomerService")
+public class CoalescingCustomerService implements CustomerService {
+
+    private final CustomerService customerClient;
+
+    private final long batchWindowNanos;
+
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+
+    private final Map<String, CompletableFuture<Customer>> inFlight = new HashMap<>();
+
+    private List<String> pending = new ArrayList<>();
+
+    private boolean flushScheduled;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("customer-lookup-scheduler").daemon().factory());
+
+    private final ExecutorService lookupExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("customer-lookup-", 0).factory());
+
+    public CoalescingCustomerService(@Qualifier("resilientCustomerClient") CustomerService customerClient,
+                                     @Value("${customer.lookup.batch-window:PT0.005S}") Duration batchWindow,
+                                     @Value("${customer.lookup.max-batch-size:100}") int maxBatchSize) {
+        this.customerClient = customerClient;
+        this.batchWindowNanos = batchWindow.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public Customer findById(String id) {
+        CompletableFuture<Customer> future;
+        boolean batchFull = false;
+        synchronized (this.lock) {
+            future = this.inFlight.get(id);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                this.inFlight.put(id, future);
+                this.pending.add(id);
+                if (this.pending.size() >= this.maxBatchSize) {
+                    batchFull = true;
+                } else if (!this.flushScheduled) {
+                    this.flushScheduled = true;
+                    this.scheduler.schedule(this::flush, this.batchWindowNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        if (batchFull) {
+            this.flush();
+        }
+        return await(future);
+    }
+
+    @Override
+    public Map<String, Customer> findByIds(Collection<String> ids) {
+        return this.customerClient.findByIds(ids);
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.scheduler.shutdownNow();
+        this.lookupExecutor.shutdown();
+    }
+
+    private void flush() {
+        List<String> batch;
+        synchronized (this.lock) {
+            this.flushScheduled = false;
+            if (this.pending.isEmpty()) {
+                return;
+            }
+            batch = this.pending;
+            this.pending = new ArrayList<>();
+        }
+        this.lookupExecutor.execute(() -> this.load(batch));
+    }
+
+    private void load(List<String> batch) {
+        Map<String, Customer> customers;
+        try {
+            customers = this.customerClient.findByIds(batch);
+        } catch (RuntimeException ex) {
+            log.error("Bulk customer lookup of {} ids failed", batch.size(), ex);
+            batch.forEach(id -> this.take(id).completeExceptionally(ex));
+            return;
+        }
+        batch.forEach(id -> this.take(id).complete(customers == null ? null : customers.get(id)));
+    }
+
+    private CompletableFuture<Customer> take(String id) {
+        synchronized (this.lock) {
+            return this.inFlight.remove(id);
+        }
+    }
+
+    private static Customer await(CompletableFuture<Customer> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.pichincha.account.application.exception;
+
+import java.io.Serial;
+
+public class ServiceUnavailableException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,9 +1,14 @@
 package com.pichincha.account.application.input.port;
 
 import com.pichincha.account.domain.Account;
+import com.pichincha.account.domain.CursorPage;
+import com.pichincha.account.domain.DailyBalance;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
 public interface AccountService {
 
     Account create(Account account);
@@ -12,7 +17,13 @@ public interface AccountService {
 
     Page<Account> findAll(Pageable pageable);
 
+    CursorPage<Account> findAllAfter(String after, int size, boolean includeTotal);
+
     Account findById(String id);
 
     void delete(String id);
+
+    Account updateBalance(String accountId, BigDecimal amount);
+
+    DailyBalance findBalanceAt(String accountId, LocalDate date);
 }
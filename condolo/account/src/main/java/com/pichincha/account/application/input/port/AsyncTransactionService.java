@@ -0,0 +1,11 @@
+package com.pichincha.account.application.input.port;
+
+import com.pichincha.account.domain.PostingTicket;
+import com.pichincha.account.domain.Transaction;
+
+public interface AsyncTransactionService {
+
+    PostingTicket submit(Transaction transaction);
+
+    PostingTicket findTicket(String ticketId);
+}
@@ -0,0 +1,16 @@
+package com.pichincha.account.application.input.port;
+
+import com.pichincha.account.domain.external.CustomerChange;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@FeignClient(name = "customer-services",
+        contextId = "customer-changes",
+        url = "${customer.services.url}")
+public interface CustomerChangeClient {
+    @GetMapping("customer-services/api/v1/customers/changes")
+    List<CustomerChange> findChanges(@RequestParam("since") long since, @RequestParam("limit") int limit);
+}
@@ -4,10 +4,20 @@ import org.springframework.cloud.openfeign.FeignClient;
 import com.pichincha.account.domain.external.Customer;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.Collection;
+import java.util.Map;
 
 @FeignClient(name = "customer-services",
-        url = "${customer.services.url}" )
+        url = "${customer.services.url}",
+        qualifiers = "customerFeignClient",
+        primary = false)
 public interface CustomerService {
     @GetMapping("customer-services/api/v1/customers/{customerId}")
     Customer findById(@PathVariable("customerId") String id);
+
+    @PostMapping("customer-services/api/v1/customers/lookup")
+    Map<String, Customer> findByIds(@RequestBody Collection<String> ids);
 }
@@ -0,0 +1,8 @@
+package com.pichincha.account.application.input.port;
+
+import com.pichincha.account.domain.DashboardStats;
+
+public interface DashboardService {
+
+    DashboardStats getStats();
+}
@@ -1,24 +1,35 @@
 package com.pichincha.account.application.input.port;
 
+import com.pichincha.account.domain.CursorPage;
 import com.pichincha.account.domain.Report;
 import com.pichincha.account.domain.Transaction;
+import com.pichincha.account.domain.TransactionResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface TransactionService {
 
     Transaction create(Transaction transaction);
 
+    List<TransactionResult> createBatch(List<Transaction> transactions);
+
     Transaction update(Transaction transaction);
 
     Page<Transaction> findAll(Pageable pageable);
 
+    CursorPage<Transaction> findAllAfter(String after, int size, boolean includeTotal);
+
     Transaction findById(String id);
 
     void delete(String id);
 
     Report findByDateBetween(
             LocalDateTime startDate, LocalDateTime endDate, String customerId, Pageable pageable);
-}
+
+    void exportByDateBetween(
+            LocalDateTime startDate, LocalDateTime endDate, String customerId, Consumer<Transaction> consumer);
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.pichincha.account.application.input.port;
+
+import com.pichincha.account.domain.Transfer;
+
+public interface TransferService {
+
+    Transfer create(Transfer transfer);
+}
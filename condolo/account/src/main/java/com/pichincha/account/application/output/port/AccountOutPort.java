@@ -4,6 +4,10 @@ import com.pichincha.account.domain.Account;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
 public interface AccountOutPort {
 
     Account save(Account account);
@@ -16,5 +20,25 @@ public interface AccountOutPort {
 
     Account findByAccountNumber(String accountNumber, String accountNumberUpdate);
 
+    boolean existsByAccountNumber(String accountNumber, String accountNumberUpdate);
+
     Page<Account> findAllActiveItems(Pageable pageable);
+
+    List<Account> findActivePage(String afterId, int limit);
+
+    long count();
+
+    long countActive();
+
+    BigDecimal sumActiveBalance();
+
+    /**
+     * Adds the amount with one guarded update, then reads only the owner and the new balance back by
+     * primary key in the same transaction, so the returned balance is the one the update wrote. The
+     * returned account carries just those fields. The read-back is a deliberate second round trip:
+     * the guarded update cannot return columns portably, and the prior balance is not known under the
+     * stripe lock because other instances and account edits write it too. Empty when the account is
+     * missing or inactive, or the balance would go negative.
+     */
+    Optional<Account> updateBalance(String accountId, BigDecimal amount);
 }
@@ -0,0 +1,22 @@
+package com.pichincha.account.application.output.port;
+
+import com.pichincha.account.domain.CustomerStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CustomerStatusOutPort {
+
+    Optional<CustomerStatus> findById(String customerId);
+
+    List<CustomerStatus> findAllById(Collection<String> customerIds);
+
+    List<CustomerStatus> saveAll(List<CustomerStatus> customerStatuses);
+
+    long findLastChangeId();
+
+    long count();
+
+    long countActive();
+}
@@ -0,0 +1,38 @@
+package com.pichincha.account.application.output.port;
+
+import com.pichincha.account.domain.AccountSummary;
+import com.pichincha.account.domain.DailyBalance;
+import com.pichincha.account.domain.Transaction;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyBalanceOutPort {
+
+    /**
+     * Adds the postings to their account and day rows. Must run in the posting's transaction, with the
+     * postings of each account in posting order so the last one sets the closing balance.
+     */
+    void record(List<Transaction> postings);
+
+    void remove(Transaction transaction);
+
+    /**
+     * Recomputes one account and day row from the postings stored for that day, dropping it when none
+     * is left. Must run in the transaction that changed the postings.
+     */
+    void refresh(String accountId, LocalDate date);
+
+    List<AccountSummary> summarizeByDateBetween(LocalDate startDate, LocalDate endDate, String customerId);
+
+    Optional<DailyBalance> findLatest(String accountId, LocalDate date);
+
+    Optional<LocalDate> findFirstTransactionDate();
+
+    /**
+     * Recomputes the rows of every day in the range from {@code transactions} in one transaction and
+     * returns the number of rows written.
+     */
+    long rebuild(LocalDate startDate, LocalDate endDate);
+}
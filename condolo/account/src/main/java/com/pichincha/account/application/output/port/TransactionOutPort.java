@@ -1,21 +1,42 @@
 package com.pichincha.account.application.output.port;
 
+import com.pichincha.account.domain.AccountSummary;
 import com.pichincha.account.domain.Transaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TransactionOutPort {
 
     Transaction save(Transaction transaction);
 
+    List<Transaction> saveAll(List<Transaction> transactions);
+
     Page<Transaction> findAll(Pageable pageable);
 
+    List<Transaction> findPage(LocalDateTime afterDate, String afterId, int limit);
+
+    long count();
+
+    long countByDateRange(LocalDateTime startDate, LocalDateTime endDate);
+
     Transaction findById(String id);
 
+    Optional<Transaction> findByIdempotencyKey(String idempotencyKey);
+
     void delete(String id);
 
-    Page<Transaction> findByDateBetween(
+    List<Transaction> findByDateBetween(
             LocalDateTime startDate, LocalDateTime endDate, String customerId, Pageable pageable);
+
+    long countByDateBetween(LocalDateTime startDate, LocalDateTime endDate, String customerId);
+
+    List<AccountSummary> summarizeByDateBetween(LocalDateTime startDate, LocalDateTime endDate, String customerId);
+
+    void streamByDateBetween(
+            LocalDateTime startDate, LocalDateTime endDate, String customerId, Consumer<Transaction> consumer);
 }
\ No newline at end of file
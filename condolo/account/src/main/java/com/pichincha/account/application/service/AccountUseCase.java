@@ -5,7 +5,14 @@ import com.pichincha.account.application.exception.ValidationException;
 import com.pichincha.account.application.input.port.AccountService;
 import com.pichincha.account.application.input.port.CustomerService;
 import com.pichincha.account.application.output.port.AccountOutPort;
+import com.pichincha.account.application.output.port.CustomerStatusOutPort;
+import com.pichincha.account.application.output.port.DailyBalanceOutPort;
+import com.pichincha.account.application.pagination.CursorCodec;
+import com.pichincha.account.application.stats.DashboardCounters;
 import com.pichincha.account.domain.Account;
+import com.pichincha.account.domain.CursorPage;
+import com.pichincha.account.domain.CustomerStatus;
+import com.pichincha.account.domain.DailyBalance;
 import com.pichincha.account.domain.external.Customer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +20,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -22,16 +33,32 @@ public class AccountUseCase implements AccountService {
 
     private final CustomerService customerService;
 
+    private final CustomerStatusOutPort customerStatusOutPort;
+
+    private final DashboardCounters dashboardCounters;
+
+    private final DailyBalanceOutPort dailyBalanceOutPort;
+
     @Override
     public Account create(Account account) {
         account.setStatus(Boolean.TRUE);
-        return save(account, null);
+        Account newAccount = save(account, null);
+        this.dashboardCounters.accountCreated(account);
+        return newAccount;
     }
 
+    /**
+     * Saves the mutable columns only. The balance is written solely by the guarded
+     * {@link #updateBalance} statement, so an edit or delete that overlaps a posting cannot overwrite it;
+     * the request's balance is ignored.
+     */
     @Override
     public Account update(Account account) {
-        this.findById(account.getAccountId());
-        return save(account, account.getAccountNumber());
+        Account previous = this.findById(account.getAccountId());
+        account.setInitialBalance(previous.getInitialBalance());
+        Account updated = save(account, account.getAccountNumber());
+        this.dashboardCounters.accountUpdated(previous, account);
+        return updated;
     }
 
     @Override
@@ -40,6 +67,14 @@ public class AccountUseCase implements AccountService {
 
     }
 
+    @Override
+    public CursorPage<Account> findAllAfter(String after, int size, boolean includeTotal) {
+        String afterId = after == null ? null : CursorCodec.decode(after, 1)[0];
+        List<Account> rows = this.accountOutPort.findActivePage(afterId, size + 1);
+        return CursorCodec.toPage(rows, size, last -> CursorCodec.encode(last.getAccountId()),
+                includeTotal ? this.accountOutPort.countActive() : null);
+    }
+
     @Override
     public Account findById(String id) {
         Account account = this.accountOutPort.findById(id);
@@ -56,6 +91,28 @@ public class AccountUseCase implements AccountService {
         this.update(account);
     }
 
+    @Override
+    public Account updateBalance(String accountId, BigDecimal amount) {
+        Account account = this.accountOutPort.updateBalance(accountId, amount).orElseThrow(() -> {
+            this.findById(accountId);
+            return new ValidationException("Insufficient account balance");
+        });
+        this.dashboardCounters.balanceChanged(amount);
+        return account;
+    }
+
+    /**
+     * Reads the balance at the end of {@code date} from the daily rollup: the row of that day or, when
+     * the account had no movements on it, of the last earlier day that had.
+     */
+    @Override
+    public DailyBalance findBalanceAt(String accountId, LocalDate date) {
+        this.findById(accountId);
+        return this.dailyBalanceOutPort.findLatest(accountId, date)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "The account with id " + accountId + " has no movements until " + date));
+    }
+
     private Account save(Account account, String accountNumberUpdate){
         this.validateUniqueIdentification(account.getAccountNumber(), accountNumberUpdate);
         this.validateCustomerById(account.getCustomerId());
@@ -64,20 +121,19 @@ public class AccountUseCase implements AccountService {
     }
 
     private void validateUniqueIdentification(String accountNumber, String accountNumberUpdate) {
-        try {
-            Account existingAccount = this.accountOutPort.findByAccountNumber(
-                    accountNumber, accountNumberUpdate);
-            if (existingAccount != null) {
-                throw new ValidationException("The account number must be unique");
-            }
-        } catch (ResourceNotFoundException ex) {
-            log.info("The account number {} is unique", accountNumber);
+        if (this.accountOutPort.existsByAccountNumber(accountNumber, accountNumberUpdate)) {
+            throw new ValidationException("The account number must be unique");
         }
     }
 
     private void validateCustomerById(String customerId) {
-        Customer customer = this.customerService.findById(customerId);
-        if (customer == null || Boolean.FALSE.equals(customer.isStatus())) {
+        boolean active = this.customerStatusOutPort.findById(customerId)
+                .map(CustomerStatus::isStatus)
+                .orElseGet(() -> {
+                    Customer customer = this.customerService.findById(customerId);
+                    return customer != null && customer.isStatus();
+                });
+        if (!active) {
             throw new ValidationException("The customer with id " + customerId + " not found");
         }
     }
@@ -0,0 +1,174 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.exception.ResourceNotFoundException;
+import com.pichincha.account.application.exception.ServiceUnavailableException;
+import com.pichincha.account.application.input.port.AsyncTransactionService;
+import com.pichincha.account.application.input.port.TransactionService;
+import com.pichincha.account.domain.PostingTicket;
+import com.pichincha.account.domain.Transaction;
+import com.pichincha.account.domain.TransactionResult;
+import com.pichincha.account.domain.enums.PostingStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Accepts postings into bounded per-partition queues keyed by account and applies them from one
+ * consumer per partition, so postings for the same account keep their submission order.
+ */
+@Service
+@Slf4j
+public class AsyncTransactionUseCase implements AsyncTransactionService {
+
+    private static final long POLL_INTERVAL_MILLIS = 200;
+
+    private final TransactionService transactionService;
+
+    private final List<BlockingQueue<PendingPosting>> partitions;
+
+    private final int maxGroupSize;
+
+    private final int ticketRetention;
+
+    private final Map<String, PostingTicket> tickets = new ConcurrentHashMap<>();
+
+    private final Queue<String> completedTickets = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger completedCount = new AtomicInteger();
+
+    private final ExecutorService consumers;
+
+    private volatile boolean running;
+
+    public AsyncTransactionUseCase(TransactionService transactionService,
+                                   @Value("${account.posting.async.partitions:4}") int partitionCount,
+                                   @Value("${account.posting.async.partition-capacity:1024}") int partitionCapacity,
+                                   @Value("${account.posting.async.max-group-size:50}") int maxGroupSize,
+                                   @Value("${account.posting.async.ticket-retention:10000}") int ticketRetention) {
+        this.transactionService = transactionService;
+        this.partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            this.partitions.add(new ArrayBlockingQueue<>(partitionCapacity));
+        }
+        this.maxGroupSize = maxGroupSize;
+        this.ticketRetention = ticketRetention;
+        this.consumers = Executors.newFixedThreadPool(partitionCount,
+                Thread.ofPlatform().name("posting-consumer-", 0).factory());
+    }
+
+    @PostConstruct
+    public void start() {
+        this.running = true;
+        this.partitions.forEach(partition -> this.consumers.submit(() -> this.drain(partition)));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        this.running = false;
+        this.consumers.shutdown();
+        if (!this.consumers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Posting consumers did not drain their partitions before shutdown");
+            this.consumers.shutdownNow();
+        }
+    }
+
+    @Override
+    public PostingTicket submit(Transaction transaction) {
+        if (!this.running) {
+            throw new ServiceUnavailableException("The posting pipeline is not running");
+        }
+        String ticketId = UUID.randomUUID().toString();
+        this.tickets.put(ticketId, PostingTicket.builder().ticketId(ticketId).status(PostingStatus.PENDING).build());
+        if (!this.partitionFor(transaction.getAccountId()).offer(new PendingPosting(ticketId, transaction))) {
+            this.tickets.remove(ticketId);
+            throw new ServiceUnavailableException("The posting queue is full, retry later");
+        }
+        return this.tickets.get(ticketId);
+    }
+
+    @Override
+    public PostingTicket findTicket(String ticketId) {
+        PostingTicket ticket = this.tickets.get(ticketId);
+        if (ticket == null) {
+            throw new ResourceNotFoundException("The ticket with id " + ticketId + " not found");
+        }
+        return ticket;
+    }
+
+    private BlockingQueue<PendingPosting> partitionFor(String accountId) {
+        int hash = Objects.hashCode(accountId);
+        return this.partitions.get(Math.floorMod(hash ^ (hash >>> 16), this.partitions.size()));
+    }
+
+    private void drain(BlockingQueue<PendingPosting> partition) {
+        List<PendingPosting> group = new ArrayList<>(this.maxGroupSize);
+        while (this.running || !partition.isEmpty()) {
+            try {
+                PendingPosting first = partition.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                partition.drainTo(group, this.maxGroupSize - 1);
+                this.apply(group);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void apply(List<PendingPosting> group) {
+        try {
+            List<TransactionResult> results = this.transactionService.createBatch(
+                    group.stream().map(PendingPosting::transaction).toList());
+            for (int i = 0; i < group.size(); i++) {
+                TransactionResult result = results.get(i);
+                this.complete(group.get(i).ticketId(), result.getStatus(), result.getTransaction(), result.getMessage());
+            }
+        } catch (RuntimeException ex) {
+            log.error("Async posting group failed: {}", ex.getMessage());
+            group.forEach(posting -> this.complete(
+                    posting.ticketId(), PostingStatus.REJECTED, null, ex.getMessage()));
+        }
+    }
+
+    private void complete(String ticketId, PostingStatus status, Transaction transaction, String message) {
+        this.tickets.put(ticketId, PostingTicket.builder()
+                .ticketId(ticketId)
+                .status(status)
+                .transaction(transaction)
+                .message(message)
+                .build());
+        this.completedTickets.add(ticketId);
+        if (this.completedCount.incrementAndGet() > this.ticketRetention) {
+            String evicted = this.completedTickets.poll();
+            if (evicted != null) {
+                this.tickets.remove(evicted);
+                this.completedCount.decrementAndGet();
+            }
+        }
+    }
+
+    private record PendingPosting(String ticketId, Transaction transaction) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.cache.CachingCustomerService;
+import com.pichincha.account.application.cache.ReportCache;
+import com.pichincha.account.application.input.port.CustomerChangeClient;
+import com.pichincha.account.application.output.port.CustomerStatusOutPort;
+import com.pichincha.account.application.stats.DashboardCounters;
+import com.pichincha.account.domain.CustomerStatus;
+import com.pichincha.account.domain.external.CustomerChange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the local customer_status table in step with the customer-service change feed. The highest
+ * applied change id is the feed position, so a restart resumes where the previous poll stopped.
+ * Change ids are allocated at insert but become visible at commit, so a slow transaction can publish
+ * an id below ones already applied; each poll therefore re-reads the last
+ * {@code customer.replication.overlap} ids and skips the changes a customer's row already covers.
+ * Customers created before the feed existed reach the replica through the one-off
+ * SemillaCambiosClientes.sql seed in customer-service, which records a CREATED change for each of them.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "customer.replication.enabled", havingValue = "true", matchIfMissing = true)
+public class CustomerStatusReplicator {
+
+    private final CustomerChangeClient customerChangeClient;
+
+    private final CustomerStatusOutPort customerStatusOutPort;
+
+    private final CachingCustomerService cachingCustomerService;
+
+    private final DashboardCounters dashboardCounters;
+
+    private final ReportCache reportCache;
+
+    private final int batchSize;
+
+    private final long overlap;
+
+    public CustomerStatusReplicator(CustomerChangeClient customerChangeClient,
+                                    CustomerStatusOutPort customerStatusOutPort,
+                                    CachingCustomerService cachingCustomerService,
+                                    DashboardCounters dashboardCounters,
+                                    ReportCache reportCache,
+                                    @Value("${customer.replication.batch-size:500}") int batchSize,
+                                    @Value("${customer.replication.overlap:1000}") long overlap) {
+        this.customerChangeClient = customerChangeClient;
+        this.customerStatusOutPort = customerStatusOutPort;
+        this.cachingCustomerService = cachingCustomerService;
+        this.dashboardCounters = dashboardCounters;
+        this.reportCache = reportCache;
+        this.batchSize = batchSize;
+        this.overlap = overlap;
+    }
+
+    @Scheduled(fixedDelayString = "${customer.replication.poll-interval:PT5S}")
+    public void poll() {
+        try {
+            long since = Math.max(0, this.customerStatusOutPort.findLastChangeId() - this.overlap);
+            List<CustomerChange> changes;
+            do {
+                changes = this.customerChangeClient.findChanges(since, this.batchSize);
+                if (changes == null || changes.isEmpty()) {
+                    return;
+                }
+                this.apply(changes);
+                since = changes.get(changes.size() - 1).getChangeId();
+            } while (changes.size() == this.batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("Customer change feed poll failed: {}", ex.getMessage());
+        }
+    }
+
+    private void apply(List<CustomerChange> changes) {
+        Map<String, CustomerChange> latest = new LinkedHashMap<>();
+        changes.forEach(change -> latest.put(change.getCustomerId(), change));
+
+        Map<String, CustomerStatus> current = this.customerStatusOutPort.findAllById(latest.keySet()).stream()
+                .collect(Collectors.toMap(CustomerStatus::getCustomerId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CustomerStatus> updated = new ArrayList<>();
+        for (CustomerChange change : latest.values()) {
+            CustomerStatus status = current.get(change.getCustomerId());
+            if (status != null && status.getLastChangeId() >= change.getChangeId()) {
+                continue;
+            }
+            updated.add(CustomerStatus.builder()
+                    .customerId(change.getCustomerId())
+                    .status(change.isStatus())
+                    .lastChangeId(change.getChangeId())
+                    .updatedAt(now)
+                    .build());
+        }
+        this.customerStatusOutPort.saveAll(updated);
+        updated.forEach(status -> {
+            this.cachingCustomerService.invalidate(status.getCustomerId());
+            this.reportCache.invalidate(status.getCustomerId());
+        });
+        updated.forEach(status -> this.countChange(current.get(status.getCustomerId()), status));
+        log.debug("Applied {} customer changes up to {}", updated.size(),
+                changes.get(changes.size() - 1).getChangeId());
+    }
+
+    private void countChange(CustomerStatus previous, CustomerStatus status) {
+        if (previous == null) {
+            this.dashboardCounters.customerAdded(status.isStatus());
+        } else if (previous.isStatus() != status.isStatus()) {
+            this.dashboardCounters.customerStatusChanged(status.isStatus());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.output.port.DailyBalanceOutPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Rebuilds the daily_account_balance rollup from the transactions table. The days are split into
+ * chunks of {@code account.daily-balance.backfill.chunk-days} and each chunk is rebuilt in its own
+ * transaction, {@code parallelism} chunks at a time, so a failed chunk only needs that chunk re-run.
+ */
+@Slf4j
+@Service
+public class DailyBalanceBackfill {
+
+    private final DailyBalanceOutPort dailyBalanceOutPort;
+
+    private final int chunkDays;
+
+    private final int parallelism;
+
+    private final boolean onStartup;
+
+    public DailyBalanceBackfill(DailyBalanceOutPort dailyBalanceOutPort,
+                                @Value("${account.daily-balance.backfill.chunk-days:7}") int chunkDays,
+                                @Value("${account.daily-balance.backfill.parallelism:4}") int parallelism,
+                                @Value("${account.daily-balance.backfill.on-startup:false}") boolean onStartup) {
+        this.dailyBalanceOutPort = dailyBalanceOutPort;
+        this.chunkDays = Math.max(1, chunkDays);
+        this.parallelism = Math.max(1, parallelism);
+        this.onStartup = onStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (this.onStartup) {
+            Thread.ofVirtual().name("daily-balance-backfill").start(() -> {
+                try {
+                    this.backfill();
+                } catch (RuntimeException ex) {
+                    log.error("Daily balance backfill failed: {}", ex.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Rebuilds every day from the first posting up to today and returns the number of rows written.
+     */
+    public long backfill() {
+        return this.dailyBalanceOutPort.findFirstTransactionDate()
+                .map(startDate -> this.backfill(startDate, LocalDate.now()))
+                .orElse(0L);
+    }
+
+    public long backfill(LocalDate startDate, LocalDate endDate) {
+        long started = System.nanoTime();
+        List<Future<Long>> chunks = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(this.parallelism);
+        try {
+            for (LocalDate from = startDate; !from.isAfter(endDate); from = from.plusDays(this.chunkDays)) {
+                LocalDate to = from.plusDays(this.chunkDays - 1L);
+                LocalDate chunkEnd = to.isAfter(endDate) ? endDate : to;
+                LocalDate chunkStart = from;
+                chunks.add(executor.submit(() -> this.dailyBalanceOutPort.rebuild(chunkStart, chunkEnd)));
+            }
+            long rows = 0;
+            for (Future<Long> chunk : chunks) {
+                rows += this.await(chunk);
+            }
+            log.info("Daily balance rollup rebuilt from {} to {}: {} rows in {} chunks, {} ms", startDate, endDate,
+                    rows, chunks.size(), (System.nanoTime() - started) / 1_000_000);
+            return rows;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long await(Future<Long> chunk) {
+        try {
+            return chunk.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The daily balance backfill was interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
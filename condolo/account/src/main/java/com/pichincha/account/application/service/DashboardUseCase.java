@@ -0,0 +1,19 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.input.port.DashboardService;
+import com.pichincha.account.application.stats.DashboardCounters;
+import com.pichincha.account.domain.DashboardStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardUseCase implements DashboardService {
+
+    private final DashboardCounters dashboardCounters;
+
+    @Override
+    public DashboardStats getStats() {
+        return this.dashboardCounters.snapshot();
+    }
+}
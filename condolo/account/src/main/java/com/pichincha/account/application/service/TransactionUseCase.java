@@ -1,25 +1,55 @@
 package com.pichincha.account.application.service;
 
+import com.pichincha.account.application.cache.IdempotencyKeyStore;
+import com.pichincha.account.application.cache.ReportCache;
+import com.pichincha.account.application.concurrency.AccountPostingEngine;
+import com.pichincha.account.application.exception.BadRequestException;
+import com.pichincha.account.application.exception.ServiceUnavailableException;
 import com.pichincha.account.application.exception.ValidationException;
 import com.pichincha.account.application.input.port.AccountService;
 import com.pichincha.account.application.input.port.CustomerService;
 import com.pichincha.account.application.input.port.TransactionService;
+import com.pichincha.account.application.output.port.DailyBalanceOutPort;
 import com.pichincha.account.application.output.port.TransactionOutPort;
+import com.pichincha.account.application.pagination.CursorCodec;
+import com.pichincha.account.application.stats.DashboardCounters;
 import com.pichincha.account.domain.Account;
+import com.pichincha.account.domain.AccountSummary;
+import com.pichincha.account.domain.CursorPage;
 import com.pichincha.account.domain.Report;
 import com.pichincha.account.domain.Transaction;
+import com.pichincha.account.domain.TransactionResult;
+import com.pichincha.account.domain.enums.PostingStatus;
 import com.pichincha.account.domain.enums.TransactionType;
 import com.pichincha.account.domain.external.Customer;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import feign.FeignException;
 
@@ -28,32 +58,116 @@ import feign.FeignException;
 @Slf4j
 public class TransactionUseCase implements TransactionService {
 
+    private static final String CUSTOMER_UNAVAILABLE = "Customer unavailable";
+
     private final TransactionOutPort transactionOutPort;
 
     private final AccountService accountService;
 
     private final CustomerService customerService;
 
-    @Transactional(isolation = Isolation.SERIALIZABLE)
+    private final AccountPostingEngine postingEngine;
+
+    private final IdempotencyKeyStore idempotencyKeyStore;
+
+    private final DashboardCounters dashboardCounters;
+
+    private final ReportCache reportCache;
+
+    private final DailyBalanceOutPort dailyBalanceOutPort;
+
+    private final ExecutorService reportExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("report-query-", 0).factory());
+
+    @Value("${account.report.deadline:PT5S}")
+    private Duration reportDeadline = Duration.ofSeconds(5);
+
+    @Value("${account.daily-balance.reports-enabled:false}")
+    private boolean dailyBalanceReports;
+
+    @Value("${account.posting.batch.chunk-size:500}")
+    private int batchChunkSize = 500;
+
     @Override
     public Transaction create(Transaction transaction) {
-        this.validateTransactionType(transaction);
-        this.validateAmount(transaction);
-        Account account = this.accountService.findById(transaction.getAccountId());
-        this.validateAccountBalance(account, transaction.getAmount());
-        transaction.setBalance(account.getInitialBalance().add(transaction.getAmount()));
-        transaction.setDate(LocalDateTime.now());
-        Transaction newTransaction = transactionOutPort.save(
-                transaction);
-        updateAccountBalance(account, newTransaction.getBalance());
+        String idempotencyKey = transaction.getIdempotencyKey();
+        if (idempotencyKey == null) {
+            return this.createTransaction(transaction);
+        }
+        Optional<Transaction> replayed = this.idempotencyKeyStore.find(idempotencyKey);
+        if (replayed.isPresent()) {
+            return replayed.get();
+        }
+        Transaction newTransaction;
+        try {
+            newTransaction = this.createTransaction(transaction);
+        } catch (DataIntegrityViolationException ex) {
+            newTransaction = this.idempotencyKeyStore.find(idempotencyKey).orElseThrow(() -> ex);
+        }
+        this.idempotencyKeyStore.remember(idempotencyKey, newTransaction);
         return newTransaction;
     }
 
+    @Override
+    public List<TransactionResult> createBatch(List<Transaction> transactions) {
+        TransactionResult[] results = new TransactionResult[transactions.size()];
+        Map<String, List<Integer>> indexesByAccount = new LinkedHashMap<>();
+        for (int index = 0; index < transactions.size(); index++) {
+            Transaction transaction = transactions.get(index);
+            try {
+                this.validateTransactionType(transaction);
+                this.validateAmount(transaction);
+                indexesByAccount.computeIfAbsent(transaction.getAccountId(), key -> new ArrayList<>()).add(index);
+            } catch (ValidationException ex) {
+                results[index] = this.rejected(index, ex.getMessage());
+            }
+        }
+        indexesByAccount.forEach((accountId, indexes) -> {
+            for (int from = 0; from < indexes.size(); from += this.batchChunkSize) {
+                List<Integer> chunk = indexes.subList(from, Math.min(indexes.size(), from + this.batchChunkSize));
+                this.postChunk(accountId, chunk, transactions, results);
+            }
+        });
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Posts up to {@code account.posting.batch.chunk-size} of an account's batch elements in one lock hold
+     * and one transaction, so a bulk batch never holds the account's stripe for the whole request. A
+     * failed chunk rejects only its own elements; chunks already posted stay posted.
+     */
+    private void postChunk(String accountId, List<Integer> indexes, List<Transaction> transactions,
+                           TransactionResult[] results) {
+        try {
+            this.postingEngine.post(accountId, () -> this.postBatch(accountId, indexes, transactions))
+                    .forEach(result -> {
+                        results[result.getIndex()] = result;
+                        if (result.getStatus() == PostingStatus.POSTED) {
+                            this.invalidateReports(transactions.get(result.getIndex()));
+                        }
+                    });
+        } catch (RuntimeException ex) {
+            log.error("Batch posting failed for account {}: {}", accountId, ex.getMessage());
+            indexes.forEach(index -> results[index] = this.rejected(index, ex.getMessage()));
+        }
+    }
+
     @Override
     public Transaction update(Transaction transaction) {
-        this.findById(transaction.getTransactionId());
-        return this.transactionOutPort.save(
-                transaction);
+        Transaction previous = this.findById(transaction.getTransactionId());
+        transaction.setCustomerId(previous.getAccountId().equals(transaction.getAccountId())
+                ? previous.getCustomerId()
+                : this.accountService.findById(transaction.getAccountId()).getCustomerId());
+        Transaction updated = this.postingEngine.post(List.of(previous.getAccountId(), transaction.getAccountId()), () -> {
+            Transaction saved = this.transactionOutPort.save(transaction);
+            this.dailyBalanceOutPort.refresh(previous.getAccountId(), previous.getDate().toLocalDate());
+            this.dailyBalanceOutPort.refresh(transaction.getAccountId(), transaction.getDate().toLocalDate());
+            return saved;
+        });
+        this.dashboardCounters.transactionMoved(previous.getDate(), transaction.getDate());
+        this.invalidateReports(previous);
+        this.invalidateReports(transaction);
+        return updated;
     }
 
     @Override
@@ -61,6 +175,21 @@ public class TransactionUseCase implements TransactionService {
         return this.transactionOutPort.findAll(pageable);
     }
 
+    @Override
+    public CursorPage<Transaction> findAllAfter(String after, int size, boolean includeTotal) {
+        LocalDateTime afterDate = null;
+        String afterId = null;
+        if (after != null) {
+            String[] cursor = CursorCodec.decode(after, 2);
+            afterDate = this.parseCursorDate(cursor[0]);
+            afterId = cursor[1];
+        }
+        List<Transaction> rows = this.transactionOutPort.findPage(afterDate, afterId, size + 1);
+        return CursorCodec.toPage(rows, size,
+                last -> CursorCodec.encode(last.getDate().toString(), last.getTransactionId()),
+                includeTotal ? this.transactionOutPort.count() : null);
+    }
+
     @Override
     public Transaction findById(String id) {
         return this.transactionOutPort.findById(id);
@@ -68,40 +197,228 @@ public class TransactionUseCase implements TransactionService {
 
     @Override
     public void delete(String id) {
-        this.transactionOutPort.delete(id);
+        Transaction transaction = this.findById(id);
+        this.postingEngine.post(transaction.getAccountId(), () -> {
+            this.transactionOutPort.delete(id);
+            this.dailyBalanceOutPort.remove(transaction);
+            return null;
+        });
+        this.dashboardCounters.transactionRemoved(transaction.getDate());
+        this.invalidateReports(transaction);
     }
 
+    /**
+     * Runs the customer lookup, the page query, the count query and the per-account totals query
+     * concurrently on virtual threads, all bounded by {@code account.report.deadline}. A customer that
+     * cannot be fetched in time is reported as unavailable, while a query that fails or misses the
+     * deadline fails the report.
+     * When {@code account.daily-balance.reports-enabled} is set, reports over whole days take the
+     * per-account totals from the daily balance rollup instead of grouping the raw transactions.
+     * Assembled reports are cached until a posting for the customer lands inside their range; reports
+     * with an unavailable or unknown customer are not cached.
+     */
     @Override
     public Report findByDateBetween(
             LocalDateTime startDate, LocalDateTime endDate, String customerId, Pageable pageable) {
-        Customer customer = this.findCustomerById(customerId);
-        Page<Transaction> transactions = this.transactionOutPort.findByDateBetween(
-                startDate, endDate, customerId, pageable);
-        return Report.builder().transactions(transactions).customer(customer).build();
+        ReportCache.Key key = new ReportCache.Key(customerId, startDate, endDate, pageable);
+        Report cached = this.reportCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = this.reportCache.stamp(customerId);
+        Report report = this.assembleReport(startDate, endDate, customerId, pageable);
+        if (!CUSTOMER_UNAVAILABLE.equals(report.getCustomer().getName())) {
+            this.reportCache.put(key, report, stamp);
+        }
+        return report;
+    }
+
+    private Report assembleReport(
+            LocalDateTime startDate, LocalDateTime endDate, String customerId, Pageable pageable) {
+        long deadline = System.nanoTime() + this.reportDeadline.toNanos();
+        Future<Customer> customer = this.reportExecutor.submit(() -> this.findCustomerById(customerId));
+        Future<List<Transaction>> content = this.reportExecutor.submit(() -> this.transactionOutPort.findByDateBetween(
+                startDate, endDate, customerId, pageable));
+        Future<Long> total = this.reportExecutor.submit(() -> this.transactionOutPort.countByDateBetween(
+                startDate, endDate, customerId));
+        Future<List<AccountSummary>> accounts = this.reportExecutor.submit(
+                () -> this.summarizeAccounts(startDate, endDate, customerId));
+        try {
+            Page<Transaction> transactions = new PageImpl<>(
+                    this.await(content, deadline), pageable, this.await(total, deadline));
+            return Report.builder()
+                    .transactions(transactions)
+                    .accounts(this.await(accounts, deadline))
+                    .customer(this.awaitCustomer(customer, customerId, deadline))
+                    .build();
+        } finally {
+            customer.cancel(true);
+            content.cancel(true);
+            total.cancel(true);
+            accounts.cancel(true);
+        }
+    }
+
+    private List<AccountSummary> summarizeAccounts(LocalDateTime startDate, LocalDateTime endDate, String customerId) {
+        if (this.dailyBalanceReports && startDate.toLocalTime().equals(LocalTime.MIDNIGHT)
+                && !endDate.toLocalTime().isBefore(LocalTime.of(23, 59, 59))) {
+            return this.dailyBalanceOutPort.summarizeByDateBetween(
+                    startDate.toLocalDate(), endDate.toLocalDate(), customerId);
+        }
+        return this.transactionOutPort.summarizeByDateBetween(startDate, endDate, customerId);
     }
 
-    private void updateAccountBalance(Account account, BigDecimal balance) {
-        account.setInitialBalance(balance);
-        this.accountService.update(account);
+    @PreDestroy
+    public void stop() {
+        this.reportExecutor.shutdown();
     }
 
-    private void validateAccountBalance(Account account,  BigDecimal balance) {
-        if (balance.add(account.getInitialBalance()).compareTo(BigDecimal.ZERO) < BigDecimal.ZERO.intValue()) {
-            throw new ValidationException("Insufficient account balance");
+    private Transaction createTransaction(Transaction transaction) {
+        this.validateTransactionType(transaction);
+        this.validateAmount(transaction);
+        Transaction newTransaction = this.postingEngine.post(transaction.getAccountId(), () -> this.post(transaction));
+        this.invalidateReports(transaction);
+        return newTransaction;
+    }
+
+    private void invalidateReports(Transaction transaction) {
+        this.reportCache.invalidate(transaction.getCustomerId(), transaction.getDate());
+    }
+
+    private Transaction post(Transaction transaction) {
+        Account account = this.accountService.updateBalance(transaction.getAccountId(), transaction.getAmount());
+        transaction.setCustomerId(account.getCustomerId());
+        transaction.setBalance(account.getInitialBalance());
+        transaction.setDate(LocalDateTime.now());
+        Transaction newTransaction = transactionOutPort.save(
+                transaction);
+        this.dailyBalanceOutPort.record(List.of(transaction));
+        this.dashboardCounters.transactionsPosted(List.of(transaction));
+        return newTransaction;
+    }
+
+    private List<TransactionResult> postBatch(String accountId, List<Integer> indexes, List<Transaction> transactions) {
+        Account account = this.accountService.findById(accountId);
+        LocalDateTime date = LocalDateTime.now();
+        BigDecimal balance = account.getInitialBalance();
+        List<TransactionResult> results = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Transaction> accepted = new ArrayList<>();
+        for (Integer index : indexes) {
+            Transaction transaction = transactions.get(index);
+            BigDecimal newBalance = balance.add(transaction.getAmount());
+            if (newBalance.compareTo(BigDecimal.ZERO) < BigDecimal.ZERO.intValue()) {
+                results.add(this.rejected(index, "Insufficient account balance"));
+                continue;
+            }
+            balance = newBalance;
+            transaction.setCustomerId(account.getCustomerId());
+            transaction.setBalance(balance);
+            transaction.setDate(date);
+            accepted.add(transaction);
+            acceptedIndexes.add(index);
+        }
+        if (!accepted.isEmpty()) {
+            Account updated = this.accountService.updateBalance(accountId, balance.subtract(account.getInitialBalance()));
+            this.rebaseBalances(accepted, updated.getInitialBalance().subtract(balance));
+            List<Transaction> saved = this.transactionOutPort.saveAll(accepted);
+            this.dailyBalanceOutPort.record(accepted);
+            this.dashboardCounters.transactionsPosted(accepted);
+            for (int i = 0; i < saved.size(); i++) {
+                results.add(TransactionResult.builder()
+                        .index(acceptedIndexes.get(i))
+                        .status(PostingStatus.POSTED)
+                        .transaction(saved.get(i))
+                        .build());
+            }
         }
+        return results;
+    }
+
+    private LocalDateTime parseCursorDate(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new BadRequestException("The cursor is not valid");
+        }
+    }
+
+    private TransactionResult rejected(int index, String message) {
+        return TransactionResult.builder().index(index).status(PostingStatus.REJECTED).message(message).build();
+    }
+
+    /**
+     * Shifts the running balances computed from the batch's initial read by the difference to the
+     * balance the update actually wrote, which is non-zero only when another instance posted to the
+     * account in between. Fails the batch if that leaves an intermediate balance negative.
+     */
+    private void rebaseBalances(List<Transaction> accepted, BigDecimal offset) {
+        if (offset.signum() == 0) {
+            return;
+        }
+        for (Transaction transaction : accepted) {
+            BigDecimal balance = transaction.getBalance().add(offset);
+            if (balance.signum() < 0) {
+                throw new ValidationException("Insufficient account balance");
+            }
+            transaction.setBalance(balance);
+        }
+    }
+
+    @Override
+    public void exportByDateBetween(
+            LocalDateTime startDate, LocalDateTime endDate, String customerId, Consumer<Transaction> consumer) {
+        this.transactionOutPort.streamByDateBetween(startDate, endDate, customerId, consumer);
+    }
+
+    private Customer awaitCustomer(Future<Customer> customer, String customerId, long deadline) {
+        try {
+            return this.await(customer, deadline);
+        } catch (ServiceUnavailableException ex) {
+            log.error(ex.getMessage());
+            return this.customerUnavailable(customerId);
+        }
+    }
+
+    private <T> T await(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw new ServiceUnavailableException("The report was not assembled within " + this.reportDeadline);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("The report assembly was interrupted");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private Customer customerUnavailable(String customerId) {
+        return Customer.builder().customerId(customerId).name(CUSTOMER_UNAVAILABLE).build();
     }
 
     private Customer findCustomerById(String customerId){
         try{
-            return this.customerService.findById(customerId);
-        }catch (FeignException ex){
+            Customer customer = this.customerService.findById(customerId);
+            if (customer == null) {
+                log.error("Customer {} not found", customerId);
+                return this.customerUnavailable(customerId);
+            }
+            return customer;
+        }catch (FeignException | ServiceUnavailableException ex){
             log.error(ex.getMessage());
-            return Customer.builder().customerId(customerId).name("Customer unavailable").build();
+            return this.customerUnavailable(customerId);
         }
     }
 
     private void validateAmount(Transaction transaction){
         String invalidAmountMessage = "The amount is not valid";
+        if (transaction.getAmount() == null) {
+            throw new ValidationException(invalidAmountMessage);
+        }
         switch (transaction.getAmount().compareTo(BigDecimal.ZERO)) {
             case 0 -> {
                 throw new ValidationException(invalidAmountMessage);
@@ -120,8 +437,9 @@ public class TransactionUseCase implements TransactionService {
     }
 
     private void validateTransactionType(Transaction transaction){
-        if(!transaction.getTransactionType().equals(TransactionType.DEPOSIT.name()) &&
-                !transaction.getTransactionType().equals(TransactionType.WITHDRAWAL.name())){
+        if(transaction.getTransactionType() == null ||
+                (!transaction.getTransactionType().equals(TransactionType.DEPOSIT.name()) &&
+                !transaction.getTransactionType().equals(TransactionType.WITHDRAWAL.name()))){
             throw new ValidationException("The transaction type is not valid");
         }
     }
@@ -0,0 +1,121 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.cache.ReportCache;
+import com.pichincha.account.application.concurrency.AccountPostingEngine;
+import com.pichincha.account.application.exception.ValidationException;
+import com.pichincha.account.application.input.port.AccountService;
+import com.pichincha.account.application.input.port.TransferService;
+import com.pichincha.account.application.stats.DashboardCounters;
+import com.pichincha.account.application.output.port.DailyBalanceOutPort;
+import com.pichincha.account.application.output.port.TransactionOutPort;
+import com.pichincha.account.domain.Account;
+import com.pichincha.account.domain.Transaction;
+import com.pichincha.account.domain.Transfer;
+import com.pichincha.account.domain.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransferUseCase implements TransferService {
+
+    private final TransactionOutPort transactionOutPort;
+
+    private final AccountService accountService;
+
+    private final AccountPostingEngine postingEngine;
+
+    private final DashboardCounters dashboardCounters;
+
+    private final ReportCache reportCache;
+
+    private final DailyBalanceOutPort dailyBalanceOutPort;
+
+    @Override
+    public Transfer create(Transfer transfer) {
+        this.validateTransfer(transfer);
+        Transfer posted = this.postingEngine.post(
+                List.of(transfer.getSourceAccountId(), transfer.getTargetAccountId()), () -> this.post(transfer));
+        Stream.of(posted.getDebit(), posted.getCredit())
+                .filter(Objects::nonNull)
+                .forEach(leg -> this.reportCache.invalidate(leg.getCustomerId(), leg.getDate()));
+        return posted;
+    }
+
+    private Transfer post(Transfer transfer) {
+        Account source = this.accountService.findById(transfer.getSourceAccountId());
+        Account target = this.accountService.findById(transfer.getTargetAccountId());
+        if (source.getInitialBalance().compareTo(transfer.getAmount()) < BigDecimal.ZERO.intValue()) {
+            throw new ValidationException("Insufficient account balance");
+        }
+        Map<String, BigDecimal> balances =
+                this.updateBalancesInAccountOrder(source.getAccountId(), target.getAccountId(), transfer.getAmount());
+
+        String transferId = UUID.randomUUID().toString();
+        LocalDateTime date = LocalDateTime.now();
+        Transaction debit = Transaction.builder()
+                .accountId(source.getAccountId())
+                .customerId(source.getCustomerId())
+                .transactionType(TransactionType.WITHDRAWAL.name())
+                .amount(transfer.getAmount().negate())
+                .balance(balances.get(source.getAccountId()))
+                .date(date)
+                .transferId(transferId)
+                .build();
+        Transaction credit = Transaction.builder()
+                .accountId(target.getAccountId())
+                .customerId(target.getCustomerId())
+                .transactionType(TransactionType.DEPOSIT.name())
+                .amount(transfer.getAmount())
+                .balance(balances.get(target.getAccountId()))
+                .date(date)
+                .transferId(transferId)
+                .build();
+        List<Transaction> legs = this.transactionOutPort.saveAll(List.of(debit, credit));
+        this.dailyBalanceOutPort.record(List.of(debit, credit));
+        this.dashboardCounters.transactionsPosted(List.of(debit, credit));
+
+        transfer.setTransferId(transferId);
+        transfer.setDate(date);
+        transfer.setDebit(legs.get(0));
+        transfer.setCredit(legs.get(1));
+        return transfer;
+    }
+
+    private Map<String, BigDecimal> updateBalancesInAccountOrder(
+            String sourceAccountId, String targetAccountId, BigDecimal amount) {
+        Map<String, BigDecimal> balances = new HashMap<>();
+        if (sourceAccountId.compareTo(targetAccountId) < 0) {
+            this.updateBalance(balances, sourceAccountId, amount.negate());
+            this.updateBalance(balances, targetAccountId, amount);
+        } else {
+            this.updateBalance(balances, targetAccountId, amount);
+            this.updateBalance(balances, sourceAccountId, amount.negate());
+        }
+        return balances;
+    }
+
+    private void updateBalance(Map<String, BigDecimal> balances, String accountId, BigDecimal amount) {
+        balances.put(accountId, this.accountService.updateBalance(accountId, amount).getInitialBalance());
+    }
+
+    private void validateTransfer(Transfer transfer) {
+        if (transfer.getAmount() == null || transfer.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new ValidationException("The amount is not valid");
+        }
+        if (transfer.getSourceAccountId().equals(transfer.getTargetAccountId())) {
+            throw new ValidationException("The source and target accounts must be different");
+        }
+    }
+}
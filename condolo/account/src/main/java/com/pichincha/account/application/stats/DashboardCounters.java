@@ -0,0 +1,219 @@
+package com.pichincha.account.application.stats;
+
+import com.pichincha.account.application.output.port.AccountOutPort;
+import com.pichincha.account.application.output.port.CustomerStatusOutPort;
+import com.pichincha.account.application.output.port.TransactionOutPort;
+import com.pichincha.account.domain.Account;
+import com.pichincha.account.domain.DashboardStats;
+import com.pichincha.account.domain.Transaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Dashboard totals kept in memory and moved by every account, posting and customer status write, so
+ * a dashboard refresh reads a handful of counters instead of scanning tables. The counters are
+ * rebuilt from aggregate queries once the application is ready and again on
+ * {@code account.dashboard.reconcile-cron}, which also corrects writes that raced a rebuild. Updates
+ * made inside a transaction are applied after it commits, so rolled back postings never count.
+ * Total balance covers active accounts only, the same accounts the account listing returns.
+ * Customer totals are counted on the customer_status replica, which only holds customers created
+ * before the change feed once customer-service has run its SemillaCambiosClientes.sql seed.
+ */
+@Slf4j
+@Component
+public class DashboardCounters {
+
+    private final AccountOutPort accountOutPort;
+
+    private final TransactionOutPort transactionOutPort;
+
+    private final CustomerStatusOutPort customerStatusOutPort;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong totalCustomers = new AtomicLong();
+
+    private final AtomicLong activeCustomers = new AtomicLong();
+
+    private final AtomicLong totalAccounts = new AtomicLong();
+
+    private final AtomicLong activeAccounts = new AtomicLong();
+
+    private final AtomicLong totalTransactions = new AtomicLong();
+
+    private final AtomicReference<DailyCount> todayTransactions =
+            new AtomicReference<>(new DailyCount(LocalDate.now(), 0));
+
+    private final AtomicReference<BigDecimal> totalBalance = new AtomicReference<>(BigDecimal.ZERO);
+
+    private volatile boolean loaded;
+
+    public DashboardCounters(AccountOutPort accountOutPort,
+                             TransactionOutPort transactionOutPort,
+                             CustomerStatusOutPort customerStatusOutPort,
+                             PlatformTransactionManager transactionManager) {
+        this.accountOutPort = accountOutPort;
+        this.transactionOutPort = transactionOutPort;
+        this.customerStatusOutPort = customerStatusOutPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread.ofVirtual().name("dashboard-counters-load").start(this::rebuild);
+    }
+
+    @Scheduled(cron = "${account.dashboard.reconcile-cron:0 0 * * * *}")
+    public void reconcile() {
+        try {
+            this.rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("Dashboard counters reconcile failed: {}", ex.getMessage());
+        }
+    }
+
+    public synchronized void rebuild() {
+        LocalDate today = LocalDate.now();
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.totalCustomers.set(this.customerStatusOutPort.count());
+            this.activeCustomers.set(this.customerStatusOutPort.countActive());
+            this.totalAccounts.set(this.accountOutPort.count());
+            this.activeAccounts.set(this.accountOutPort.countActive());
+            this.totalBalance.set(this.accountOutPort.sumActiveBalance());
+            this.totalTransactions.set(this.transactionOutPort.count());
+            this.todayTransactions.set(new DailyCount(today, this.transactionOutPort.countByDateRange(
+                    today.atStartOfDay(), today.plusDays(1).atStartOfDay())));
+        });
+        this.loaded = true;
+        log.info("Dashboard counters rebuilt: {} accounts, {} transactions",
+                this.totalAccounts.get(), this.totalTransactions.get());
+    }
+
+    public DashboardStats snapshot() {
+        if (!this.loaded) {
+            this.rebuild();
+        }
+        return DashboardStats.builder()
+                .totalCustomers(this.totalCustomers.get())
+                .activeCustomers(this.activeCustomers.get())
+                .totalAccounts(this.totalAccounts.get())
+                .activeAccounts(this.activeAccounts.get())
+                .totalTransactions(this.totalTransactions.get())
+                .todayTransactions(this.todayTransactions.get().countOn(LocalDate.now()))
+                .totalBalance(this.totalBalance.get())
+                .build();
+    }
+
+    public void customerAdded(boolean active) {
+        afterCommit(() -> {
+            this.totalCustomers.incrementAndGet();
+            if (active) {
+                this.activeCustomers.incrementAndGet();
+            }
+        });
+    }
+
+    public void customerStatusChanged(boolean active) {
+        afterCommit(() -> this.activeCustomers.addAndGet(active ? 1 : -1));
+    }
+
+    public void accountCreated(Account account) {
+        afterCommit(() -> {
+            this.totalAccounts.incrementAndGet();
+            this.activeAccounts.incrementAndGet();
+            this.addBalance(balanceOf(account));
+        });
+    }
+
+    public void accountUpdated(Account previous, Account current) {
+        afterCommit(() -> {
+            if (current.isStatus()) {
+                this.addBalance(balanceOf(current).subtract(balanceOf(previous)));
+            } else {
+                this.activeAccounts.decrementAndGet();
+                this.addBalance(balanceOf(previous).negate());
+            }
+        });
+    }
+
+    public void balanceChanged(BigDecimal amount) {
+        afterCommit(() -> this.addBalance(amount));
+    }
+
+    public void transactionsPosted(Collection<Transaction> transactions) {
+        afterCommit(() -> {
+            this.totalTransactions.addAndGet(transactions.size());
+            transactions.forEach(transaction -> this.addToday(transaction.getDate(), 1));
+        });
+    }
+
+    public void transactionMoved(LocalDateTime previousDate, LocalDateTime date) {
+        afterCommit(() -> {
+            this.addToday(previousDate, -1);
+            this.addToday(date, 1);
+        });
+    }
+
+    public void transactionRemoved(LocalDateTime date) {
+        afterCommit(() -> {
+            this.totalTransactions.decrementAndGet();
+            this.addToday(date, -1);
+        });
+    }
+
+    private void addBalance(BigDecimal amount) {
+        this.totalBalance.accumulateAndGet(amount, BigDecimal::add);
+    }
+
+    private void addToday(LocalDateTime date, long delta) {
+        if (date == null) {
+            return;
+        }
+        LocalDate day = date.toLocalDate();
+        LocalDate today = LocalDate.now();
+        if (!day.equals(today)) {
+            return;
+        }
+        this.todayTransactions.updateAndGet(current -> new DailyCount(today, current.countOn(today) + delta));
+    }
+
+    private static BigDecimal balanceOf(Account account) {
+        return Objects.requireNonNullElse(account.getInitialBalance(), BigDecimal.ZERO);
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    private record DailyCount(LocalDate day, long count) {
+
+        long countOn(LocalDate date) {
+            return this.day.equals(date) ? this.count : 0;
+        }
+    }
+}
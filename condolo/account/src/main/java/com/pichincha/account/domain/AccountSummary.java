@@ -0,0 +1,29 @@
+package com.pichincha.account.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AccountSummary {
+
+    private String accountId;
+
+    private String accountNumber;
+
+    private BigDecimal openingBalance;
+
+    private BigDecimal totalCredits;
+
+    private BigDecimal totalDebits;
+
+    private BigDecimal closingBalance;
+
+    private long movements;
+}
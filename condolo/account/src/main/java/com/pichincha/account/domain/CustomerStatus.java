@@ -0,0 +1,23 @@
+package com.pichincha.account.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CustomerStatus {
+
+    private String customerId;
+
+    private boolean status;
+
+    private Long lastChangeId;
+
+    private LocalDateTime updatedAt;
+}
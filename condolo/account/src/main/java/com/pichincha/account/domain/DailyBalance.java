@@ -0,0 +1,28 @@
+package com.pichincha.account.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DailyBalance {
+
+    private String accountId;
+
+    private LocalDate balanceDate;
+
+    private BigDecimal credits;
+
+    private BigDecimal debits;
+
+    private long movements;
+
+    private BigDecimal closingBalance;
+}
@@ -0,0 +1,29 @@
+package com.pichincha.account.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardStats {
+
+    private long totalCustomers;
+
+    private long activeCustomers;
+
+    private long totalAccounts;
+
+    private long activeAccounts;
+
+    private long totalTransactions;
+
+    private long todayTransactions;
+
+    private BigDecimal totalBalance;
+}
@@ -0,0 +1,22 @@
+package com.pichincha.account.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pichincha.account.domain.enums.PostingStatus;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostingTicket {
+
+    private String ticketId;
+
+    private PostingStatus status;
+
+    private Transaction transaction;
+
+    private String message;
+}
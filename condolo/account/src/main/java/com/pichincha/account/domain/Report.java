@@ -4,6 +4,8 @@ import com.pichincha.account.domain.external.Customer;
 import lombok.*;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -12,4 +14,5 @@ import org.springframework.data.domain.Page;
 public class Report {
     Customer customer;
     Page<Transaction> transactions;
+    List<AccountSummary> accounts;
 }
@@ -29,6 +29,9 @@ public class Transaction {
             groups = {ValidationGroups.Create.class, ValidationGroups.Update.class})
     private String accountId;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String customerId;
+
     private LocalDateTime date;
 
     @NotBlank(message = Constants.NOT_BLANK, groups = {ValidationGroups.Create.class, ValidationGroups.Update.class})
@@ -45,4 +48,10 @@ public class Transaction {
     private Customer customer;
 
     private Account account;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String idempotencyKey;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String transferId;
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.pichincha.account.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.pichincha.account.domain.common.Constants;
+import com.pichincha.account.domain.common.ValidationGroups;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class Transfer {
+
+    @JsonProperty(value = Constants.ID_LABEL, access = JsonProperty.Access.READ_ONLY)
+    private String transferId;
+
+    @NotBlank(message = Constants.NOT_BLANK, groups = ValidationGroups.Create.class)
+    @Size(max = 36, message = Constants.UUID_LENGTH, groups = ValidationGroups.Create.class)
+    private String sourceAccountId;
+
+    @NotBlank(message = Constants.NOT_BLANK, groups = ValidationGroups.Create.class)
+    @Size(max = 36, message = Constants.UUID_LENGTH, groups = ValidationGroups.Create.class)
+    private String targetAccountId;
+
+    @NotNull(message = Constants.NOT_BLANK, groups = ValidationGroups.Create.class)
+    @Digits(integer = 18, fraction = 2, message = Constants.BIG_DECIMAL_VALIDATION,
+            groups = ValidationGroups.Create.class)
+    private BigDecimal amount;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime date;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Transaction debit;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Transaction credit;
+}
@@ -0,0 +1,7 @@
+package com.pichincha.account.domain.enums;
+
+public enum PostingStatus {
+    PENDING,
+    POSTED,
+    REJECTED,
+}
@@ -0,0 +1,20 @@
+package com.pichincha.account.domain.external;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CustomerChange {
+    private Long changeId;
+    private String customerId;
+    private boolean status;
+    private String changeType;
+    private LocalDateTime changedAt;
+}
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 
 import com.pichincha.account.application.exception.BadRequestException;
 import com.pichincha.account.application.exception.ResourceNotFoundException;
+import com.pichincha.account.application.exception.ServiceUnavailableException;
 import com.pichincha.account.domain.ErrorDetails;
 import jakarta.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +44,11 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(this.buildSingleErrorDetails(exception, request), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Object> serviceUnavailableHandling(ServiceUnavailableException exception, WebRequest request){
+        return new ResponseEntity<>(this.buildSingleErrorDetails(exception, request), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<Object> validationHandling(ValidationException exception, WebRequest request){
         return new ResponseEntity<>(this.buildSingleErrorDetails(exception, request), HttpStatus.CONFLICT);
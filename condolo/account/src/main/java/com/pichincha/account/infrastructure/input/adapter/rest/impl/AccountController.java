@@ -2,16 +2,21 @@ package com.pichincha.account.infrastructure.input.adapter.rest.impl;
 
 import com.pichincha.account.application.input.port.AccountService;
 import com.pichincha.account.domain.Account;
+import com.pichincha.account.domain.CursorPage;
+import com.pichincha.account.domain.DailyBalance;
 import com.pichincha.account.domain.common.ValidationGroups;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 
 @RestController
 @RequestMapping("/v1/accounts")
@@ -32,11 +37,24 @@ public class AccountController {
         return accountService.findAll(PageRequest.of(page, size));
     }
 
+    @GetMapping("/cursor")
+    public CursorPage<Account> findAllAfter(@RequestParam(required = false) String after,
+                                            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+                                            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return accountService.findAllAfter(after, size, includeTotal);
+    }
+
     @GetMapping("/{accountId}")
     public Account findById(@PathVariable("accountId") String id) {
         return accountService.findById(id);
     }
 
+    @GetMapping("/{accountId}/balance")
+    public DailyBalance findBalanceAt(@PathVariable("accountId") String id,
+                                      @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return accountService.findBalanceAt(id, date);
+    }
+
     @PutMapping("/{accountId}")
     public Account update(
             @PathVariable("accountId") String id,
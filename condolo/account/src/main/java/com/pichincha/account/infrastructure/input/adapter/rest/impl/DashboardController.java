@@ -0,0 +1,21 @@
+package com.pichincha.account.infrastructure.input.adapter.rest.impl;
+
+import com.pichincha.account.application.input.port.DashboardService;
+import com.pichincha.account.domain.DashboardStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @GetMapping("/stats")
+    public DashboardStats getStats() {
+        return dashboardService.getStats();
+    }
+}
@@ -1,23 +1,46 @@
 package com.pichincha.account.infrastructure.input.adapter.rest.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pichincha.account.application.input.port.TransactionService;
 import com.pichincha.account.domain.Report;
+import com.pichincha.account.domain.Transaction;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/v1/customers")
 public class ReportController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private static final String CSV_VALUE = "text/csv";
+
+    private static final String CSV_HEADER =
+            "id,date,accountId,accountNumber,accountType,transactionType,amount,balance,transferId";
+
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping("/{customerId}/transactions/report")
     public Report findByDateRange(
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
@@ -27,4 +50,73 @@ public class ReportController {
             @RequestParam(defaultValue = "10") @Min(0) @Max(100) int size) {
         return transactionService.findByDateBetween(startDate, endDate, customerId, PageRequest.of(page, size));
     }
-}
\ No newline at end of file
+
+    @GetMapping(value = "/{customerId}/transactions/report", produces = NDJSON_VALUE)
+    public StreamingResponseBody exportNdjson(
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @PathVariable("customerId") String customerId) {
+        return outputStream -> export(outputStream, startDate, endDate, customerId, writer -> transaction -> {
+            try {
+                writer.write(objectMapper.writeValueAsString(transaction));
+                writer.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, null);
+    }
+
+    @GetMapping(value = "/{customerId}/transactions/report", produces = CSV_VALUE)
+    public StreamingResponseBody exportCsv(
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @PathVariable("customerId") String customerId) {
+        return outputStream -> export(outputStream, startDate, endDate, customerId, writer -> transaction -> {
+            try {
+                writer.write(toCsvRow(transaction));
+                writer.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, CSV_HEADER);
+    }
+
+    private void export(OutputStream outputStream, LocalDateTime startDate, LocalDateTime endDate,
+                        String customerId, Function<Writer, Consumer<Transaction>> rowWriter,
+                        String header) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (header != null) {
+            writer.write(header);
+            writer.write('\n');
+        }
+        try {
+            transactionService.exportByDateBetween(startDate, endDate, customerId, rowWriter.apply(writer));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    private static String toCsvRow(Transaction transaction) {
+        String accountNumber = transaction.getAccount() == null ? null : transaction.getAccount().getAccountNumber();
+        String accountType = transaction.getAccount() == null ? null : transaction.getAccount().getAccountType();
+        return String.join(",",
+                csv(transaction.getTransactionId()),
+                csv(transaction.getDate()),
+                csv(transaction.getAccountId()),
+                csv(accountNumber),
+                csv(accountType),
+                csv(transaction.getTransactionType()),
+                csv(transaction.getAmount()),
+                csv(transaction.getBalance()),
+                csv(transaction.getTransferId()));
+    }
+
+    private static String csv(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -1,17 +1,28 @@
 package com.pichincha.account.infrastructure.input.adapter.rest.impl;
 
+import com.pichincha.account.application.exception.BadRequestException;
+import com.pichincha.account.application.input.port.AsyncTransactionService;
 import com.pichincha.account.application.input.port.TransactionService;
+import com.pichincha.account.domain.CursorPage;
+import com.pichincha.account.domain.PostingTicket;
 import com.pichincha.account.domain.Transaction;
+import com.pichincha.account.domain.TransactionResult;
 import com.pichincha.account.domain.common.ValidationGroups;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @RestController
 @RequestMapping("/v1/transactions")
 public class TransactionController {
@@ -19,18 +30,54 @@ public class TransactionController {
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private AsyncTransactionService asyncTransactionService;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${account.posting.batch.max-size:50000}")
+    private int maxBatchSize = 50000;
+
     @PostMapping
     @ResponseStatus( HttpStatus.CREATED )
-    public Transaction create(@Validated(ValidationGroups.Create.class) @RequestBody Transaction transaction) {
+    public Transaction create(
+            @RequestHeader(value = "Idempotency-Key", required = false) @Size(max = 64) String idempotencyKey,
+            @Validated(ValidationGroups.Create.class) @RequestBody Transaction transaction) {
+        transaction.setIdempotencyKey(idempotencyKey);
         return transactionService.create(transaction);
     }
 
+    @PostMapping("/batch")
+    public List<TransactionResult> createBatch(@RequestBody List<Transaction> transactions) {
+        this.validateBatch(transactions);
+        return transactionService.createBatch(transactions);
+    }
+
+    @PostMapping("/async")
+    @ResponseStatus( HttpStatus.ACCEPTED )
+    public PostingTicket submit(@Validated(ValidationGroups.Create.class) @RequestBody Transaction transaction) {
+        return asyncTransactionService.submit(transaction);
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    public PostingTicket findTicket(@PathVariable("ticketId") String ticketId) {
+        return asyncTransactionService.findTicket(ticketId);
+    }
+
     @GetMapping
     public Page<Transaction> findAll(@RequestParam(defaultValue = "0") @Min(0) int page,
                                         @RequestParam(defaultValue = "10") @Min(0) @Max(100) int size) {
         return transactionService.findAll(PageRequest.of(page, size));
     }
 
+    @GetMapping("/cursor")
+    public CursorPage<Transaction> findAllAfter(@RequestParam(required = false) String after,
+                                                @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+                                                @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return transactionService.findAllAfter(after, size, includeTotal);
+    }
+
     @GetMapping("/{transactionId}")
     public Transaction findById(@PathVariable("transactionId") String id) {
         return transactionService.findById(id);
@@ -40,4 +87,29 @@ public class TransactionController {
     public void delete(@PathVariable("transactionId") String id) {
         transactionService.delete(id);
     }
+
+    /**
+     * Applies the single endpoint's create constraints to every element, since a {@code List} body is
+     * not validated element by element, and caps the request body; the posting itself is split into
+     * chunks of {@code account.posting.batch.chunk-size} per account.
+     */
+    private void validateBatch(List<Transaction> transactions) {
+        if (transactions.size() > this.maxBatchSize) {
+            throw new BadRequestException("The batch cannot hold more than " + this.maxBatchSize + " transactions");
+        }
+        List<String> errors = new ArrayList<>();
+        for (int index = 0; index < transactions.size(); index++) {
+            int position = index;
+            if (transactions.get(index) == null) {
+                errors.add("[" + position + "]: must not be null");
+                continue;
+            }
+            this.validator.validate(transactions.get(index), ValidationGroups.Create.class)
+                    .forEach(violation -> errors.add(
+                            "[" + position + "]." + violation.getPropertyPath() + ": " + violation.getMessage()));
+        }
+        if (!errors.isEmpty()) {
+            throw new BadRequestException(String.join("; ", errors));
+        }
+    }
 }
\ No newline at end of file
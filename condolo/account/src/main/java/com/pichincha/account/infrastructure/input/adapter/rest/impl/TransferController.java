@@ -0,0 +1,23 @@
+package com.pichincha.account.infrastructure.input.adapter.rest.impl;
+
+import com.pichincha.account.application.input.port.TransferService;
+import com.pichincha.account.domain.Transfer;
+import com.pichincha.account.domain.common.ValidationGroups;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/transfers")
+public class TransferController {
+
+    @Autowired
+    private TransferService transferService;
+
+    @PostMapping
+    @ResponseStatus( HttpStatus.CREATED )
+    public Transfer create(@Validated(ValidationGroups.Create.class) @RequestBody Transfer transfer) {
+        return transferService.create(transfer);
+    }
+}
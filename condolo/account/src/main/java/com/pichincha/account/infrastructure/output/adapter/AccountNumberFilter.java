@@ -0,0 +1,47 @@
+package com.pichincha.account.infrastructure.output.adapter;
+
+import com.pichincha.account.application.cache.UniquenessFilter;
+import com.pichincha.account.infrastructure.output.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bloom filter of every {@code accounts.account_number}, loaded by a streamed scan once the application
+ * is ready and fed by each account save.
+ */
+@Component
+public class AccountNumberFilter extends UniquenessFilter {
+
+    private final AccountRepository accountRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public AccountNumberFilter(AccountRepository accountRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${account.number-filter.expected-insertions:1000000}") long expectedInsertions,
+                               @Value("${account.number-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        super("account.number.filter", meterRegistry, expectedInsertions, falsePositiveProbability);
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread.ofVirtual().name("account-number-filter-load").start(this::reload);
+    }
+
+    public void reload() {
+        this.rebuild(sink -> this.transactionTemplate.executeWithoutResult(status -> {
+            try (var accountNumbers = this.accountRepository.streamAccountNumbers()) {
+                accountNumbers.forEach(sink);
+            }
+        }));
+    }
+}
@@ -1,15 +1,23 @@
 package com.pichincha.account.infrastructure.output.adapter;
 
+import com.pichincha.account.application.cache.UniquenessFilter;
 import com.pichincha.account.application.exception.ResourceNotFoundException;
+import com.pichincha.account.application.exception.ValidationException;
 import com.pichincha.account.application.output.port.AccountOutPort;
 import com.pichincha.account.domain.Account;
 import com.pichincha.account.infrastructure.output.repository.AccountRepository;
 import com.pichincha.account.infrastructure.output.repository.mapper.AccountMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class AccountOutAdapter implements AccountOutPort {
@@ -18,14 +26,27 @@ public class AccountOutAdapter implements AccountOutPort {
 
     private final AccountMapper accountMapper;
 
+    private final AccountNumberFilter accountNumberFilter;
+
     @Override
     public Account save(Account account) {
         com.pichincha.account.infrastructure.output.repository.entity.Account newAccount = accountMapper.convertToEntity(account);
-        return accountMapper.convertToDomain(
-                accountRepository.save(
-                        newAccount
-                )
-        );
+        Account saved;
+        try {
+            saved = accountMapper.convertToDomain(
+                    accountRepository.saveAndFlush(
+                            newAccount
+                    )
+            );
+        } catch (DataIntegrityViolationException ex) {
+            if (!UniquenessFilter.isDuplicate(ex, "account_number")) {
+                throw ex;
+            }
+            accountNumberFilter.put(account.getAccountNumber());
+            throw new ValidationException("The account number must be unique");
+        }
+        accountNumberFilter.put(saved.getAccountNumber());
+        return saved;
     }
 
     @Override
@@ -55,9 +76,57 @@ public class AccountOutAdapter implements AccountOutPort {
         );
     }
 
+    @Override
+    public boolean existsByAccountNumber(String accountNumber, String accountNumberUpdate) {
+        if (accountNumber == null || accountNumber.equals(accountNumberUpdate)) {
+            return false;
+        }
+        return accountNumberFilter.exists(accountNumber,
+                number -> accountRepository.findIdByAccountNumber(number, accountNumberUpdate).isPresent());
+    }
+
     @Override
     public Page<Account> findAllActiveItems(Pageable pageable) {
         return accountRepository.findAllActiveItems(pageable)
                 .map(accountMapper::convertToDomain);
     }
+
+    @Override
+    public List<Account> findActivePage(String afterId, int limit) {
+        Pageable firstRows = PageRequest.of(0, limit);
+        List<com.pichincha.account.infrastructure.output.repository.entity.Account> rows = afterId == null
+                ? accountRepository.findFirstActivePage(firstRows)
+                : accountRepository.findActivePageAfter(afterId, firstRows);
+        return rows.stream()
+                .map(accountMapper::convertToDomain)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return accountRepository.count();
+    }
+
+    @Override
+    public long countActive() {
+        return accountRepository.countByStatusTrue();
+    }
+
+    @Override
+    public BigDecimal sumActiveBalance() {
+        return accountRepository.sumActiveBalance();
+    }
+
+    @Override
+    public Optional<Account> updateBalance(String accountId, BigDecimal amount) {
+        if (accountRepository.updateBalance(accountId, amount) == 0) {
+            return Optional.empty();
+        }
+        return accountRepository.findBalanceById(accountId).map(balance -> Account.builder()
+                .accountId(accountId)
+                .customerId(balance.customerId())
+                .initialBalance(balance.initialBalance())
+                .status(true)
+                .build());
+    }
 }
@@ -0,0 +1,61 @@
+package com.pichincha.account.infrastructure.output.adapter;
+
+import com.pichincha.account.application.output.port.CustomerStatusOutPort;
+import com.pichincha.account.domain.CustomerStatus;
+import com.pichincha.account.infrastructure.output.repository.CustomerStatusRepository;
+import com.pichincha.account.infrastructure.output.repository.mapper.CustomerStatusMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerStatusOutAdapter implements CustomerStatusOutPort {
+
+    private final CustomerStatusMapper customerStatusMapper;
+
+    private final CustomerStatusRepository customerStatusRepository;
+
+    @Override
+    public Optional<CustomerStatus> findById(String customerId) {
+        return customerStatusRepository.findById(customerId)
+                .map(customerStatusMapper::convertToDomain);
+    }
+
+    @Override
+    public List<CustomerStatus> findAllById(Collection<String> customerIds) {
+        return customerStatusRepository.findAllById(customerIds).stream()
+                .map(customerStatusMapper::convertToDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CustomerStatus> saveAll(List<CustomerStatus> customerStatuses) {
+        return customerStatusRepository.saveAll(
+                        customerStatuses.stream()
+                                .map(customerStatusMapper::convertToEntity)
+                                .toList()
+                ).stream()
+                .map(customerStatusMapper::convertToDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long findLastChangeId() {
+        return customerStatusRepository.findLastChangeId();
+    }
+
+    @Override
+    public long count() {
+        return customerStatusRepository.count();
+    }
+
+    @Override
+    public long countActive() {
+        return customerStatusRepository.countByStatusTrue();
+    }
+}
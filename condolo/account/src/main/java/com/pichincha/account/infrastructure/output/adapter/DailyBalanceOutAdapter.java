@@ -0,0 +1,226 @@
+package com.pichincha.account.infrastructure.output.adapter;
+
+import com.pichincha.account.application.output.port.DailyBalanceOutPort;
+import com.pichincha.account.domain.AccountSummary;
+import com.pichincha.account.domain.DailyBalance;
+import com.pichincha.account.domain.Transaction;
+import com.pichincha.account.domain.enums.TransactionType;
+import com.pichincha.account.infrastructure.output.repository.DailyAccountBalanceRepository;
+import com.pichincha.account.infrastructure.output.repository.TransactionRepository;
+import com.pichincha.account.infrastructure.output.repository.entity.DailyAccountBalance;
+import com.pichincha.account.infrastructure.output.repository.entity.DailyAccountBalanceId;
+import com.pichincha.account.infrastructure.output.repository.mapper.DailyBalanceMapper;
+import com.pichincha.account.infrastructure.output.repository.projection.DailyBalanceTotals;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class DailyBalanceOutAdapter implements DailyBalanceOutPort {
+
+    private static final String INSERT = "INSERT INTO daily_account_balance " +
+            "(account_id, balance_date, credits, debits, movements, closing_balance) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final DailyAccountBalanceRepository dailyAccountBalanceRepository;
+
+    private final TransactionRepository transactionRepository;
+
+    private final DailyBalanceMapper dailyBalanceMapper;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void record(List<Transaction> postings) {
+        Map<DailyAccountBalanceId, DailyAccountBalance> rows = new LinkedHashMap<>();
+        for (Transaction posting : postings) {
+            DailyAccountBalanceId id = new DailyAccountBalanceId(posting.getAccountId(), posting.getDate().toLocalDate());
+            add(rows.computeIfAbsent(id, DailyBalanceOutAdapter::emptyRow),
+                    posting.getTransactionType(), posting.getAmount(), posting.getBalance());
+        }
+        rows.values().forEach(row -> dailyAccountBalanceRepository.upsert(row.getAccountId(), row.getBalanceDate(),
+                row.getCredits(), row.getDebits(), row.getMovements(), row.getClosingBalance()));
+    }
+
+    /**
+     * Subtracts a deleted posting from its day row, then takes the closing balance from the day's last
+     * remaining posting, or drops the row when none is left. Must run after the delete, in its
+     * transaction.
+     */
+    @Override
+    public void remove(Transaction transaction) {
+        DailyAccountBalanceId id =
+                new DailyAccountBalanceId(transaction.getAccountId(), transaction.getDate().toLocalDate());
+        List<com.pichincha.account.infrastructure.output.repository.entity.Transaction> last =
+                transactionRepository.findLastByAccount(id.getAccountId(), id.getBalanceDate().atStartOfDay(),
+                        id.getBalanceDate().plusDays(1).atStartOfDay(), PageRequest.of(0, 1));
+        if (last.isEmpty()) {
+            dailyAccountBalanceRepository.deleteById(id);
+            return;
+        }
+        DailyAccountBalance row = emptyRow(id);
+        add(row, transaction.getTransactionType(), transaction.getAmount(), transaction.getBalance());
+        dailyAccountBalanceRepository.subtract(
+                row.getAccountId(), row.getBalanceDate(), row.getCredits(), row.getDebits());
+        dailyAccountBalanceRepository.updateClosingBalance(
+                row.getAccountId(), row.getBalanceDate(), last.get(0).getBalance());
+    }
+
+    @Override
+    public void refresh(String accountId, LocalDate date) {
+        DailyAccountBalance row = emptyRow(new DailyAccountBalanceId(accountId, date));
+        for (var posting : transactionRepository.findByAccountAndDate(
+                accountId, date.atStartOfDay(), date.plusDays(1).atStartOfDay())) {
+            add(row, posting.getTransactionType(), posting.getAmount(), posting.getBalance());
+        }
+        if (row.getMovements() == 0) {
+            dailyAccountBalanceRepository.deleteDay(accountId, date);
+            return;
+        }
+        dailyAccountBalanceRepository.replace(row.getAccountId(), row.getBalanceDate(),
+                row.getCredits(), row.getDebits(), row.getMovements(), row.getClosingBalance());
+    }
+
+    /**
+     * Reads one row per account and day: the summed totals over the range, then the closing balance of
+     * each account's last day with movements by primary key.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountSummary> summarizeByDateBetween(LocalDate startDate, LocalDate endDate, String customerId) {
+        List<DailyBalanceTotals> totals = dailyAccountBalanceRepository.sumByCustomer(startDate, endDate, customerId);
+        Map<String, BigDecimal> closingBalances = dailyAccountBalanceRepository.findAllById(totals.stream()
+                        .map(total -> new DailyAccountBalanceId(total.accountId(), total.lastDate()))
+                        .toList()).stream()
+                .collect(Collectors.toMap(DailyAccountBalance::getAccountId, DailyAccountBalance::getClosingBalance));
+        return totals.stream()
+                .filter(total -> Objects.requireNonNullElse(total.movements(), 0L) > 0)
+                .map(total -> {
+                    BigDecimal credits = Objects.requireNonNullElse(total.credits(), BigDecimal.ZERO);
+                    BigDecimal debits = Objects.requireNonNullElse(total.debits(), BigDecimal.ZERO);
+                    BigDecimal closingBalance = closingBalances.getOrDefault(total.accountId(), BigDecimal.ZERO);
+                    return AccountSummary.builder()
+                            .accountId(total.accountId())
+                            .accountNumber(total.accountNumber())
+                            .openingBalance(closingBalance.subtract(credits).add(debits))
+                            .totalCredits(credits)
+                            .totalDebits(debits)
+                            .closingBalance(closingBalance)
+                            .movements(total.movements())
+                            .build();
+                })
+                .sorted(Comparator.comparing(AccountSummary::getAccountNumber))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<DailyBalance> findLatest(String accountId, LocalDate date) {
+        return dailyAccountBalanceRepository.findLatest(accountId, date, PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(dailyBalanceMapper::convertToDomain);
+    }
+
+    @Override
+    public Optional<LocalDate> findFirstTransactionDate() {
+        return transactionRepository.findFirstDate().map(LocalDateTime::toLocalDate);
+    }
+
+    /**
+     * Deletes the range and re-inserts it from a forward-only scan ordered by account and date, writing
+     * each account and day row as soon as the scan moves past it, so memory stays bounded by one JDBC
+     * batch.
+     */
+    @Override
+    @Transactional
+    public long rebuild(LocalDate startDate, LocalDate endDate) {
+        dailyAccountBalanceRepository.deleteByDateBetween(startDate, endDate);
+        List<DailyAccountBalance> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        long written = 0;
+        DailyAccountBalance current = null;
+        try (var rows = transactionRepository.streamByAccountAndDate(
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay())) {
+            var iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                var row = iterator.next();
+                DailyAccountBalanceId id = new DailyAccountBalanceId(row.getAccountId(), row.getDate().toLocalDate());
+                if (current == null || !current.getAccountId().equals(id.getAccountId())
+                        || !current.getBalanceDate().equals(id.getBalanceDate())) {
+                    if (current != null) {
+                        this.append(batch, current);
+                        written++;
+                    }
+                    current = emptyRow(id);
+                }
+                add(current, row.getTransactionType(), row.getAmount(), row.getBalance());
+                entityManager.detach(row);
+            }
+        }
+        if (current != null) {
+            this.append(batch, current);
+            written++;
+        }
+        this.insert(batch);
+        return written;
+    }
+
+    private void append(List<DailyAccountBalance> batch, DailyAccountBalance row) {
+        batch.add(row);
+        if (batch.size() == INSERT_BATCH_SIZE) {
+            this.insert(batch);
+            batch.clear();
+        }
+    }
+
+    private void insert(List<DailyAccountBalance> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows, rows.size(), (statement, row) -> {
+            statement.setString(1, row.getAccountId());
+            statement.setDate(2, Date.valueOf(row.getBalanceDate()));
+            statement.setBigDecimal(3, row.getCredits());
+            statement.setBigDecimal(4, row.getDebits());
+            statement.setLong(5, row.getMovements());
+            statement.setBigDecimal(6, row.getClosingBalance());
+        });
+    }
+
+    private static DailyAccountBalance emptyRow(DailyAccountBalanceId id) {
+        return DailyAccountBalance.builder()
+                .accountId(id.getAccountId())
+                .balanceDate(id.getBalanceDate())
+                .credits(BigDecimal.ZERO)
+                .debits(BigDecimal.ZERO)
+                .build();
+    }
+
+    private static void add(DailyAccountBalance row, String transactionType, BigDecimal amount, BigDecimal balance) {
+        if (TransactionType.WITHDRAWAL.name().equals(transactionType)) {
+            row.setDebits(row.getDebits().subtract(amount));
+        } else {
+            row.setCredits(row.getCredits().add(amount));
+        }
+        row.setMovements(row.getMovements() + 1);
+        row.setClosingBalance(balance);
+    }
+}
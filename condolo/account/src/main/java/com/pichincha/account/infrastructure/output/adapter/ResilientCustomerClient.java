@@ -0,0 +1,65 @@
+package com.pichincha.account.infrastructure.output.adapter;
+
+import com.pichincha.account.application.exception.ServiceUnavailableException;
+import com.pichincha.account.application.input.port.CustomerService;
+import com.pichincha.account.domain.external.Customer;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Guards the customer-service Feign client with the {@code customerService} bulkhead and circuit
+ * breaker. Rejected calls, timeouts and server errors surface as {@link ServiceUnavailableException}.
+ */
+@Slf4j
+@Component("resilientCustomerClient")
+public class ResilientCustomerClient implements CustomerService {
+
+    private static final String CUSTOMER_SERVICE = "customerService";
+
+    private final CustomerService customerClient;
+
+    public ResilientCustomerClient(@Qualifier("customerFeignClient") CustomerService customerClient) {
+        this.customerClient = customerClient;
+    }
+
+    @Override
+    @CircuitBreaker(name = CUSTOMER_SERVICE, fallbackMethod = "findByIdFallback")
+    @Bulkhead(name = CUSTOMER_SERVICE, fallbackMethod = "findByIdFallback")
+    public Customer findById(String id) {
+        return this.customerClient.findById(id);
+    }
+
+    @Override
+    @CircuitBreaker(name = CUSTOMER_SERVICE, fallbackMethod = "findByIdsFallback")
+    @Bulkhead(name = CUSTOMER_SERVICE, fallbackMethod = "findByIdsFallback")
+    public Map<String, Customer> findByIds(Collection<String> ids) {
+        return this.customerClient.findByIds(ids);
+    }
+
+    private Customer findByIdFallback(String id, Throwable ex) {
+        if (ex instanceof FeignException.NotFound) {
+            return null;
+        }
+        throw unavailable(ex);
+    }
+
+    private Map<String, Customer> findByIdsFallback(Collection<String> ids, Throwable ex) {
+        throw unavailable(ex);
+    }
+
+    private static RuntimeException unavailable(Throwable ex) {
+        if (ex instanceof FeignException feignException
+                && feignException.status() >= 400 && feignException.status() < 500) {
+            return feignException;
+        }
+        log.warn("Customer service call failed: {}", ex.toString());
+        return new ServiceUnavailableException("Customer service unavailable");
+    }
+}
@@ -2,17 +2,25 @@ package com.pichincha.account.infrastructure.output.adapter;
 
 import com.pichincha.account.application.exception.ResourceNotFoundException;
 import com.pichincha.account.application.output.port.TransactionOutPort;
+import com.pichincha.account.domain.AccountSummary;
 import com.pichincha.account.domain.Transaction;
 import com.pichincha.account.infrastructure.output.repository.TransactionRepository;
 import com.pichincha.account.infrastructure.output.repository.mapper.TransactionMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +31,8 @@ public class TransactionOutAdapter implements TransactionOutPort {
 
     private final TransactionRepository transactionRepository;
 
+    private final EntityManager entityManager;
+
     @Override
     public Transaction save(Transaction transaction) {
         return transactionMapper.convertToDomain(
@@ -32,6 +42,17 @@ public class TransactionOutAdapter implements TransactionOutPort {
         );
     }
 
+    @Override
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        return transactionRepository.saveAll(
+                        transactions.stream()
+                                .map(transactionMapper::convertToEntity)
+                                .toList()
+                ).stream()
+                .map(transactionMapper::convertToDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Page<Transaction> findAll(Pageable pageable) {
         Page<com.pichincha.account.infrastructure.output.repository.entity.Transaction> page =
@@ -45,6 +66,27 @@ public class TransactionOutAdapter implements TransactionOutPort {
         return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 
+    @Override
+    public List<Transaction> findPage(LocalDateTime afterDate, String afterId, int limit) {
+        Pageable firstRows = PageRequest.of(0, limit);
+        List<com.pichincha.account.infrastructure.output.repository.entity.Transaction> rows = afterDate == null
+                ? transactionRepository.findFirstPage(firstRows)
+                : transactionRepository.findPageAfter(afterDate, afterId, firstRows);
+        return rows.stream()
+                .map(transactionMapper::convertToDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long count() {
+        return transactionRepository.count();
+    }
+
+    @Override
+    public long countByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        return transactionRepository.countByDateGreaterThanEqualAndDateLessThan(startDate, endDate);
+    }
+
     @Override
     public Transaction findById(String id) {
         return transactionMapper.convertToDomain(
@@ -52,21 +94,65 @@ public class TransactionOutAdapter implements TransactionOutPort {
         );
     }
 
+    @Override
+    public Optional<Transaction> findByIdempotencyKey(String idempotencyKey) {
+        return transactionRepository.findByIdempotencyKey(idempotencyKey)
+                .map(transactionMapper::convertToDomain);
+    }
+
     @Override
     public void delete(String id) {
         transactionRepository.deleteById(id);
     }
 
     @Override
-    public Page<Transaction> findByDateBetween(LocalDateTime startDate, LocalDateTime endDate, String customerId, Pageable pageable) {
-        Page<com.pichincha.account.infrastructure.output.repository.entity.Transaction> page =
-                transactionRepository.getByQueryDate(startDate, endDate, customerId, pageable);
+    public List<Transaction> findByDateBetween(LocalDateTime startDate, LocalDateTime endDate, String customerId, Pageable pageable) {
+        return transactionRepository.getByQueryDate(startDate, endDate, customerId, pageable).stream()
+                .map(transactionMapper::convertToDomain)
+                .collect(Collectors.toList());
+    }
 
-        List<Transaction> content =
-                page.getContent().stream()
-                        .map(transactionMapper::convertToDomain)
-                        .collect(Collectors.toList());
+    @Override
+    public long countByDateBetween(LocalDateTime startDate, LocalDateTime endDate, String customerId) {
+        return transactionRepository.countByQueryDate(startDate, endDate, customerId);
+    }
 
-        return new PageImpl<>(content, pageable, page.getTotalElements());
+    /**
+     * Maps the single per-account aggregate of the range. The closing balance is the running balance
+     * stored on the account's last movement of the range, and the opening balance is the closing balance
+     * minus the movements inside it, so later postings and edits of the account's current balance do not
+     * move historical summaries.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountSummary> summarizeByDateBetween(LocalDateTime startDate, LocalDateTime endDate, String customerId) {
+        return transactionRepository.sumByAccount(startDate, endDate, customerId).stream()
+                .map(totals -> {
+                    BigDecimal credits = Objects.requireNonNullElse(totals.getCredits(), BigDecimal.ZERO);
+                    BigDecimal debits = Objects.requireNonNullElse(totals.getDebits(), BigDecimal.ZERO);
+                    BigDecimal closingBalance = Objects.requireNonNullElse(totals.getClosingBalance(), BigDecimal.ZERO);
+                    return AccountSummary.builder()
+                            .accountId(totals.getAccountId())
+                            .accountNumber(totals.getAccountNumber())
+                            .openingBalance(closingBalance.subtract(credits).add(debits))
+                            .totalCredits(credits)
+                            .totalDebits(debits)
+                            .closingBalance(closingBalance)
+                            .movements(Objects.requireNonNullElse(totals.getMovements(), 0L))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByDateBetween(
+            LocalDateTime startDate, LocalDateTime endDate, String customerId, Consumer<Transaction> consumer) {
+        try (var rows = transactionRepository.streamByQueryDate(startDate, endDate, customerId)) {
+            rows.forEach(row -> {
+                consumer.accept(transactionMapper.convertToDomain(row));
+                entityManager.detach(row);
+            });
+        }
     }
-}
+}
\ No newline at end of file
@@ -1,13 +1,21 @@
 package com.pichincha.account.infrastructure.output.repository;
 
 import com.pichincha.account.infrastructure.output.repository.entity.Account;
+import com.pichincha.account.infrastructure.output.repository.projection.AccountBalanceView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, String> {
@@ -17,6 +25,39 @@ public interface AccountRepository extends JpaRepository<Account, String> {
             "AND a.accountNumber = :accountNumber")
     Optional<Account> findByAccountNumber(String accountNumber, String accountNumberUpdate);
 
+    @Query(value = "SELECT a.account_id FROM accounts a " +
+            "WHERE a.account_number = :accountNumber " +
+            "AND (:accountNumberUpdate IS NULL OR a.account_number <> :accountNumberUpdate) " +
+            "LIMIT 1", nativeQuery = true)
+    Optional<String> findIdByAccountNumber(String accountNumber, String accountNumberUpdate);
+
     @Query("SELECT a FROM Account a WHERE a.status = true")
     Page<Account> findAllActiveItems(Pageable pageable);
+
+    @Query("SELECT a FROM Account a WHERE a.status = true ORDER BY a.accountId")
+    List<Account> findFirstActivePage(Pageable pageable);
+
+    @Query("SELECT a FROM Account a WHERE a.status = true AND a.accountId > :afterId ORDER BY a.accountId")
+    List<Account> findActivePageAfter(String afterId, Pageable pageable);
+
+    long countByStatusTrue();
+
+    @Query("SELECT COALESCE(SUM(a.initialBalance), 0) FROM Account a WHERE a.status = true")
+    BigDecimal sumActiveBalance();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Account a SET a.initialBalance = a.initialBalance + :amount " +
+            "WHERE a.accountId = :accountId AND a.status = true AND a.initialBalance + :amount >= 0")
+    int updateBalance(String accountId, BigDecimal amount);
+
+    @Query("SELECT new com.pichincha.account.infrastructure.output.repository.projection.AccountBalanceView(" +
+            "a.customerId, a.initialBalance) FROM Account a WHERE a.accountId = :accountId")
+    Optional<AccountBalanceView> findBalanceById(String accountId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a.accountNumber FROM Account a")
+    Stream<String> streamAccountNumbers();
 }
@@ -0,0 +1,15 @@
+package com.pichincha.account.infrastructure.output.repository;
+
+import com.pichincha.account.infrastructure.output.repository.entity.CustomerStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CustomerStatusRepository extends JpaRepository<CustomerStatus, String> {
+
+    @Query("SELECT COALESCE(MAX(c.lastChangeId), 0) FROM CustomerStatus c")
+    long findLastChangeId();
+
+    long countByStatusTrue();
+}
@@ -0,0 +1,69 @@
+package com.pichincha.account.infrastructure.output.repository;
+
+import com.pichincha.account.infrastructure.output.repository.entity.DailyAccountBalance;
+import com.pichincha.account.infrastructure.output.repository.entity.DailyAccountBalanceId;
+import com.pichincha.account.infrastructure.output.repository.projection.DailyBalanceTotals;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyAccountBalanceRepository extends JpaRepository<DailyAccountBalance, DailyAccountBalanceId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_account_balance " +
+            "(account_id, balance_date, credits, debits, movements, closing_balance) " +
+            "VALUES (:accountId, :balanceDate, :credits, :debits, :movements, :closingBalance) " +
+            "ON DUPLICATE KEY UPDATE credits = credits + VALUES(credits), debits = debits + VALUES(debits), " +
+            "movements = movements + VALUES(movements), closing_balance = VALUES(closing_balance)",
+            nativeQuery = true)
+    int upsert(String accountId, LocalDate balanceDate, BigDecimal credits, BigDecimal debits,
+               long movements, BigDecimal closingBalance);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_account_balance " +
+            "(account_id, balance_date, credits, debits, movements, closing_balance) " +
+            "VALUES (:accountId, :balanceDate, :credits, :debits, :movements, :closingBalance) " +
+            "ON DUPLICATE KEY UPDATE credits = VALUES(credits), debits = VALUES(debits), " +
+            "movements = VALUES(movements), closing_balance = VALUES(closing_balance)",
+            nativeQuery = true)
+    int replace(String accountId, LocalDate balanceDate, BigDecimal credits, BigDecimal debits,
+                long movements, BigDecimal closingBalance);
+
+    @Modifying
+    @Query("DELETE FROM DailyAccountBalance d WHERE d.accountId = :accountId AND d.balanceDate = :balanceDate")
+    int deleteDay(String accountId, LocalDate balanceDate);
+
+    @Modifying
+    @Query("UPDATE DailyAccountBalance d SET d.credits = d.credits - :credits, d.debits = d.debits - :debits, " +
+            "d.movements = d.movements - 1 " +
+            "WHERE d.accountId = :accountId AND d.balanceDate = :balanceDate")
+    int subtract(String accountId, LocalDate balanceDate, BigDecimal credits, BigDecimal debits);
+
+    @Modifying
+    @Query("UPDATE DailyAccountBalance d SET d.closingBalance = :closingBalance " +
+            "WHERE d.accountId = :accountId AND d.balanceDate = :balanceDate")
+    int updateClosingBalance(String accountId, LocalDate balanceDate, BigDecimal closingBalance);
+
+    @Modifying
+    @Query("DELETE FROM DailyAccountBalance d WHERE d.balanceDate BETWEEN :startDate AND :endDate")
+    int deleteByDateBetween(LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT new com.pichincha.account.infrastructure.output.repository.projection.DailyBalanceTotals(" +
+            "d.accountId, a.accountNumber, SUM(d.credits), SUM(d.debits), SUM(d.movements), MAX(d.balanceDate)) " +
+            "FROM DailyAccountBalance d JOIN Account a ON a.accountId = d.accountId " +
+            "WHERE a.customerId = :customerId AND d.balanceDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY d.accountId, a.accountNumber")
+    List<DailyBalanceTotals> sumByCustomer(LocalDate startDate, LocalDate endDate, String customerId);
+
+    @Query("SELECT d FROM DailyAccountBalance d " +
+            "WHERE d.accountId = :accountId AND d.balanceDate <= :balanceDate " +
+            "ORDER BY d.balanceDate DESC")
+    List<DailyAccountBalance> findLatest(String accountId, LocalDate balanceDate, Pageable pageable);
+}
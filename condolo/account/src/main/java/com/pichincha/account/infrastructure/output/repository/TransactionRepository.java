@@ -2,19 +2,96 @@ package com.pichincha.account.infrastructure.output.repository;
 
 
 import com.pichincha.account.infrastructure.output.repository.entity.Transaction;
-import org.springframework.data.domain.Page;
+import com.pichincha.account.infrastructure.output.repository.projection.AccountMovementTotals;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, String> {
+
+    Optional<Transaction> findByIdempotencyKey(String idempotencyKey);
+
+    long countByDateGreaterThanEqualAndDateLessThan(LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT t FROM transactions t ORDER BY t.date DESC, t.transactionId DESC")
+    List<Transaction> findFirstPage(Pageable pageable);
+
     @Query("SELECT t FROM transactions t " +
-            "WHERE t.date BETWEEN :startDate AND :endDate " +
-            "AND t.account.customerId = :customerId" )
-    Page<Transaction> getByQueryDate(
+            "WHERE t.date < :afterDate OR (t.date = :afterDate AND t.transactionId < :afterId) " +
+            "ORDER BY t.date DESC, t.transactionId DESC")
+    List<Transaction> findPageAfter(LocalDateTime afterDate, String afterId, Pageable pageable);
+
+    @Query("SELECT t FROM transactions t " +
+            "WHERE t.customerId = :customerId " +
+            "AND t.date BETWEEN :startDate AND :endDate " +
+            "ORDER BY t.date, t.transactionId")
+    List<Transaction> getByQueryDate(
             LocalDateTime startDate, LocalDateTime endDate, String customerId, Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM transactions t " +
+            "WHERE t.customerId = :customerId " +
+            "AND t.date BETWEEN :startDate AND :endDate")
+    long countByQueryDate(LocalDateTime startDate, LocalDateTime endDate, String customerId);
+
+    /**
+     * Groups the range by account in one statement. The inner window numbers each account's movements
+     * from the last one (by date, then transaction id), so the aggregate also picks the stored balance
+     * of that movement as the closing balance without a second lookup.
+     */
+    @Query(value = "SELECT r.account_id AS accountId, a.account_number AS accountNumber, " +
+            "SUM(CASE WHEN r.transaction_type = 'WITHDRAWAL' THEN 0 ELSE r.amount END) AS credits, " +
+            "SUM(CASE WHEN r.transaction_type = 'WITHDRAWAL' THEN -r.amount ELSE 0 END) AS debits, " +
+            "COUNT(*) AS movements, " +
+            "MAX(CASE WHEN r.recency = 1 THEN r.balance END) AS closingBalance " +
+            "FROM (SELECT t.account_id, t.transaction_type, t.amount, t.balance, " +
+            "ROW_NUMBER() OVER (PARTITION BY t.account_id ORDER BY t.date DESC, t.transaction_id DESC) AS recency " +
+            "FROM transactions t " +
+            "WHERE t.customer_id = :customerId AND t.date BETWEEN :startDate AND :endDate) r " +
+            "JOIN accounts a ON a.account_id = r.account_id " +
+            "GROUP BY r.account_id, a.account_number " +
+            "ORDER BY a.account_number", nativeQuery = true)
+    List<AccountMovementTotals> sumByAccount(LocalDateTime startDate, LocalDateTime endDate, String customerId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM transactions t LEFT JOIN FETCH t.account " +
+            "WHERE t.customerId = :customerId " +
+            "AND t.date BETWEEN :startDate AND :endDate " +
+            "ORDER BY t.date, t.transactionId")
+    Stream<Transaction> streamByQueryDate(LocalDateTime startDate, LocalDateTime endDate, String customerId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM transactions t " +
+            "WHERE t.date >= :startDate AND t.date < :endDate " +
+            "ORDER BY t.accountId, t.date, t.transactionId")
+    Stream<Transaction> streamByAccountAndDate(LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT t FROM transactions t " +
+            "WHERE t.accountId = :accountId AND t.date >= :startDate AND t.date < :endDate " +
+            "ORDER BY t.date DESC, t.transactionId DESC")
+    List<Transaction> findLastByAccount(String accountId, LocalDateTime startDate, LocalDateTime endDate,
+                                        Pageable pageable);
+
+    @Query("SELECT t FROM transactions t " +
+            "WHERE t.accountId = :accountId AND t.date >= :startDate AND t.date < :endDate " +
+            "ORDER BY t.date, t.transactionId")
+    List<Transaction> findByAccountAndDate(String accountId, LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT MIN(t.date) FROM transactions t")
+    Optional<LocalDateTime> findFirstDate();
 }
\ No newline at end of file
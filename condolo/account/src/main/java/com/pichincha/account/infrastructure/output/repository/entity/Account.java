@@ -30,7 +30,7 @@ public class Account {
     @Column(name = "account_type", nullable = false)
     private String accountType;
 
-    @Column(name = "initial_balance", nullable = false)
+    @Column(name = "initial_balance", nullable = false, updatable = false)
     private BigDecimal initialBalance;
 
     @Column(name = "status", nullable = false)
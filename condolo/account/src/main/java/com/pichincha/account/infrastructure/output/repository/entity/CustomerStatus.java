@@ -0,0 +1,29 @@
+package com.pichincha.account.infrastructure.output.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "customer_status")
+public class CustomerStatus {
+
+    @Id
+    @Column(name = "customer_id", length = 36)
+    private String customerId;
+
+    @Column(name = "status", nullable = false)
+    private boolean status;
+
+    @Column(name = "last_change_id", nullable = false)
+    private Long lastChangeId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
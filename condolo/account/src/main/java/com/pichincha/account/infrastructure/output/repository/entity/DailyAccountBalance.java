@@ -0,0 +1,39 @@
+package com.pichincha.account.infrastructure.output.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@IdClass(DailyAccountBalanceId.class)
+@Table(name = "daily_account_balance",
+        indexes = @Index(name = "idx_daily_balance_date", columnList = "balance_date"))
+public class DailyAccountBalance {
+
+    @Id
+    @Column(name = "account_id", length = 36)
+    private String accountId;
+
+    @Id
+    @Column(name = "balance_date")
+    private LocalDate balanceDate;
+
+    @Column(name = "credits", nullable = false, precision = 18, scale = 2)
+    private BigDecimal credits;
+
+    @Column(name = "debits", nullable = false, precision = 18, scale = 2)
+    private BigDecimal debits;
+
+    @Column(name = "movements", nullable = false)
+    private long movements;
+
+    @Column(name = "closing_balance", nullable = false, precision = 18, scale = 2)
+    private BigDecimal closingBalance;
+}
@@ -0,0 +1,18 @@
+package com.pichincha.account.infrastructure.output.repository.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+public class DailyAccountBalanceId implements Serializable {
+
+    private String accountId;
+
+    private LocalDate balanceDate;
+}
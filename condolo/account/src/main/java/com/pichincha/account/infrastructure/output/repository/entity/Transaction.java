@@ -14,6 +14,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity(name = "transactions")
+@Table(name = "transactions",
+        indexes = {
+                @Index(name = "idx_transactions_customer_date", columnList = "customer_id, date"),
+                @Index(name = "idx_transactions_date_id", columnList = "date, transaction_id")
+        })
 public class Transaction {
 
     @Id
@@ -24,6 +29,9 @@ public class Transaction {
     @Column(name = "account_id")
     private String accountId;
 
+    @Column(name = "customer_id", length = 36)
+    private String customerId;
+
     @ManyToOne
     @JoinColumn(name = "account_id", referencedColumnName = "account_id",
             insertable = false, updatable = false)
@@ -40,4 +48,10 @@ public class Transaction {
 
     @Column(name = "balance", nullable = false)
     private BigDecimal balance;
+
+    @Column(name = "idempotency_key", unique = true, length = 64)
+    private String idempotencyKey;
+
+    @Column(name = "transfer_id", length = 36)
+    private String transferId;
 }
\ No newline at end of file
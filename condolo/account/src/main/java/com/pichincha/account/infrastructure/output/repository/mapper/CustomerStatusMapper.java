@@ -0,0 +1,14 @@
+package com.pichincha.account.infrastructure.output.repository.mapper;
+
+import com.pichincha.account.domain.CustomerStatus;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface CustomerStatusMapper {
+
+    com.pichincha.account.infrastructure.output.repository.entity.CustomerStatus convertToEntity(
+            CustomerStatus customerStatus);
+
+    CustomerStatus convertToDomain(
+            com.pichincha.account.infrastructure.output.repository.entity.CustomerStatus customerStatus);
+}
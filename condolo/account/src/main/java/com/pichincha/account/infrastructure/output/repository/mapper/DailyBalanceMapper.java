@@ -0,0 +1,11 @@
+package com.pichincha.account.infrastructure.output.repository.mapper;
+
+import com.pichincha.account.domain.DailyBalance;
+import com.pichincha.account.infrastructure.output.repository.entity.DailyAccountBalance;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface DailyBalanceMapper {
+
+    DailyBalance convertToDomain(DailyAccountBalance dailyAccountBalance);
+}
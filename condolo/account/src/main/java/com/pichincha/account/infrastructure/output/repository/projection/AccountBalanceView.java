@@ -0,0 +1,10 @@
+package com.pichincha.account.infrastructure.output.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * The two columns a posting needs from its account once the guarded balance update has run.
+ */
+public record AccountBalanceView(String customerId,
+                                 BigDecimal initialBalance) {
+}
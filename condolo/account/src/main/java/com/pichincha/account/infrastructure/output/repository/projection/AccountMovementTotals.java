@@ -0,0 +1,22 @@
+package com.pichincha.account.infrastructure.output.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * One {@code GROUP BY account_id} row of a customer's movements inside a report range, with the running
+ * balance stored on the account's last movement of the range. Debits are positive.
+ */
+public interface AccountMovementTotals {
+
+    String getAccountId();
+
+    String getAccountNumber();
+
+    BigDecimal getCredits();
+
+    BigDecimal getDebits();
+
+    Long getMovements();
+
+    BigDecimal getClosingBalance();
+}
@@ -0,0 +1,16 @@
+package com.pichincha.account.infrastructure.output.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Sum of an account's {@code daily_account_balance} rows over a day range, with the last day that had
+ * movements so its closing balance can be read by primary key.
+ */
+public record DailyBalanceTotals(String accountId,
+                                 String accountNumber,
+                                 BigDecimal credits,
+                                 BigDecimal debits,
+                                 Long movements,
+                                 LocalDate lastDate) {
+}
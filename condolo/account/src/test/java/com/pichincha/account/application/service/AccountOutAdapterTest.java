@@ -0,0 +1,79 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.exception.ValidationException;
+import com.pichincha.account.domain.Account;
+import com.pichincha.account.infrastructure.output.adapter.AccountNumberFilter;
+import com.pichincha.account.infrastructure.output.adapter.AccountOutAdapter;
+import com.pichincha.account.infrastructure.output.repository.AccountRepository;
+import com.pichincha.account.infrastructure.output.repository.mapper.AccountMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountOutAdapterTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountMapper accountMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AccountNumberFilter accountNumberFilter;
+
+    private AccountOutAdapter adapter;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        accountNumberFilter = new AccountNumberFilter(accountRepository, transactionManager,
+                new SimpleMeterRegistry(), 10_000, 0.01);
+        accountNumberFilter.rebuild(sink -> { });
+        adapter = new AccountOutAdapter(accountRepository, accountMapper, accountNumberFilter);
+        account = Account.builder().accountNumber("1001234567").customerId("CUST001").build();
+    }
+
+    @Test
+    void testSave_DuplicateMissedByFilter() {
+        when(accountMapper.convertToEntity(account))
+                .thenReturn(new com.pichincha.account.infrastructure.output.repository.entity.Account());
+        when(accountRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("could not execute",
+                new SQLIntegrityConstraintViolationException(
+                        "Duplicate entry '1001234567' for key 'accounts.account_number'")));
+
+        assertFalse(adapter.existsByAccountNumber("1001234567", null));
+        ValidationException exception = assertThrows(ValidationException.class, () -> adapter.save(account));
+
+        assertEquals("The account number must be unique", exception.getMessage());
+        when(accountRepository.findIdByAccountNumber(anyString(), isNull())).thenReturn(Optional.of("ACC001"));
+        assertTrue(adapter.existsByAccountNumber("1001234567", null));
+    }
+
+    @Test
+    void testSave_OtherIntegrityViolationIsNotTranslated() {
+        when(accountMapper.convertToEntity(account))
+                .thenReturn(new com.pichincha.account.infrastructure.output.repository.entity.Account());
+        when(accountRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("could not execute",
+                new SQLIntegrityConstraintViolationException("Column 'customer_id' cannot be null")));
+
+        assertThrows(DataIntegrityViolationException.class, () -> adapter.save(account));
+    }
+}
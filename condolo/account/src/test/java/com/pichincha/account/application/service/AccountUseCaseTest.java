@@ -4,7 +4,14 @@ import com.pichincha.account.application.exception.ResourceNotFoundException;
 import com.pichincha.account.application.exception.ValidationException;
 import com.pichincha.account.application.input.port.CustomerService;
 import com.pichincha.account.application.output.port.AccountOutPort;
+import com.pichincha.account.application.output.port.CustomerStatusOutPort;
+import com.pichincha.account.application.output.port.DailyBalanceOutPort;
+import com.pichincha.account.application.pagination.CursorCodec;
+import com.pichincha.account.application.stats.DashboardCounters;
 import com.pichincha.account.domain.Account;
+import com.pichincha.account.domain.CursorPage;
+import com.pichincha.account.domain.CustomerStatus;
+import com.pichincha.account.domain.DailyBalance;
 import com.pichincha.account.domain.external.Customer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,12 +25,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +45,15 @@ class AccountUseCaseTest {
     @Mock
     private CustomerService customerService;
 
+    @Mock
+    private CustomerStatusOutPort customerStatusOutPort;
+
+    @Mock
+    private DashboardCounters dashboardCounters;
+
+    @Mock
+    private DailyBalanceOutPort dailyBalanceOutPort;
+
     @InjectMocks
     private AccountUseCase accountUseCase;
 
@@ -69,7 +88,7 @@ class AccountUseCaseTest {
                 .build();
 
         when(customerService.findById("CUST001")).thenReturn(mockCustomer);
-        when(accountOutPort.findByAccountNumber(anyString(), any())).thenThrow(new ResourceNotFoundException("Not found"));
+        when(accountOutPort.existsByAccountNumber(anyString(), any())).thenReturn(false);
         when(accountOutPort.save(any(Account.class))).thenReturn(mockAccount);
 
         Account result = accountUseCase.create(inputAccount);
@@ -82,7 +101,7 @@ class AccountUseCaseTest {
         assertTrue(result.isStatus());
 
         verify(customerService, times(1)).findById("CUST001");
-        verify(accountOutPort, times(1)).findByAccountNumber("1001234567", null);
+        verify(accountOutPort, times(1)).existsByAccountNumber("1001234567", null);
         verify(accountOutPort, times(1)).save(any(Account.class));
     }
 
@@ -107,6 +126,44 @@ class AccountUseCaseTest {
     }
 
 
+    @Test
+    void testCreateAccount_UsesReplicatedCustomerStatus() {
+        Account inputAccount = Account.builder()
+                .accountNumber("1001234567")
+                .accountType("AHORROS")
+                .customerId("CUST001")
+                .initialBalance(new BigDecimal("1000.00"))
+                .build();
+
+        when(customerStatusOutPort.findById("CUST001")).thenReturn(Optional.of(
+                CustomerStatus.builder().customerId("CUST001").status(true).lastChangeId(1L).build()));
+        when(accountOutPort.existsByAccountNumber(anyString(), any())).thenReturn(false);
+        when(accountOutPort.save(any(Account.class))).thenReturn(mockAccount);
+
+        accountUseCase.create(inputAccount);
+
+        verify(customerService, never()).findById(any());
+        verify(accountOutPort, times(1)).save(any(Account.class));
+    }
+
+    @Test
+    void testCreateAccount_ReplicatedCustomerInactive() {
+        Account inputAccount = Account.builder()
+                .accountNumber("1001234567")
+                .accountType("AHORROS")
+                .customerId("CUST001")
+                .initialBalance(new BigDecimal("1000.00"))
+                .build();
+
+        when(customerStatusOutPort.findById("CUST001")).thenReturn(Optional.of(
+                CustomerStatus.builder().customerId("CUST001").status(false).lastChangeId(2L).build()));
+
+        assertThrows(ValidationException.class, () -> accountUseCase.create(inputAccount));
+
+        verify(customerService, never()).findById(any());
+        verify(accountOutPort, never()).save(any(Account.class));
+    }
+
     @Test
     void testCreateAccount_DuplicateAccountNumber() {
         Account inputAccount = Account.builder()
@@ -116,14 +173,14 @@ class AccountUseCaseTest {
                 .initialBalance(new BigDecimal("1000.00"))
                 .build();
 
-        when(accountOutPort.findByAccountNumber("1001234567", null)).thenReturn(mockAccount);
+        when(accountOutPort.existsByAccountNumber("1001234567", null)).thenReturn(true);
 
         ValidationException exception = assertThrows(ValidationException.class,
             () -> accountUseCase.create(inputAccount));
 
         assertEquals("The account number must be unique", exception.getMessage());
 
-        verify(accountOutPort, times(1)).findByAccountNumber("1001234567", null);
+        verify(accountOutPort, times(1)).existsByAccountNumber("1001234567", null);
         verify(customerService, never()).findById(any());
         verify(accountOutPort, never()).save(any(Account.class));
     }
@@ -161,6 +218,23 @@ class AccountUseCaseTest {
         verify(accountOutPort, times(1)).findAllActiveItems(pageable);
     }
 
+    @Test
+    void testFindAllAfter_ReturnsNextCursorWithoutCount() {
+        Account secondAccount = Account.builder().accountId("ACC002").status(true).build();
+        Account thirdAccount = Account.builder().accountId("ACC003").status(true).build();
+        String after = CursorCodec.encode("ACC000");
+
+        when(accountOutPort.findActivePage("ACC000", 3)).thenReturn(List.of(mockAccount, secondAccount, thirdAccount));
+
+        CursorPage<Account> result = accountUseCase.findAllAfter(after, 2, false);
+
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(CursorCodec.encode("ACC002"), result.getNextCursor());
+        assertNull(result.getTotalElements());
+        verify(accountOutPort, never()).countActive();
+    }
+
     @Test
     void testUpdateAccount_Success() {
         Account updateAccount = Account.builder()
@@ -174,7 +248,7 @@ class AccountUseCaseTest {
 
         when(accountOutPort.findById("ACC001")).thenReturn(mockAccount);
         when(customerService.findById("CUST001")).thenReturn(mockCustomer);
-        when(accountOutPort.findByAccountNumber("1001234567", "1001234567")).thenThrow(new ResourceNotFoundException("Not found"));
+        when(accountOutPort.existsByAccountNumber("1001234567", "1001234567")).thenReturn(false);
         when(accountOutPort.save(any(Account.class))).thenReturn(updateAccount);
 
         Account result = accountUseCase.update(updateAccount);
@@ -182,11 +256,12 @@ class AccountUseCaseTest {
         assertNotNull(result);
         assertEquals("ACC001", result.getAccountId());
         assertEquals("CORRIENTE", result.getAccountType());
-        assertEquals(new BigDecimal("2000.00"), result.getInitialBalance());
+        assertEquals(new BigDecimal("1000.00"), result.getInitialBalance());
 
         verify(accountOutPort, times(1)).findById("ACC001");
         verify(customerService, times(1)).findById("CUST001");
-        verify(accountOutPort, times(1)).save(any(Account.class));
+        verify(accountOutPort, times(1)).save(argThat(account ->
+                new BigDecimal("1000.00").equals(account.getInitialBalance())));
     }
 
     @Test
@@ -216,15 +291,14 @@ class AccountUseCaseTest {
                 .thenReturn(accountForSecondCall);
 
         when(customerService.findById("CUST001")).thenReturn(mockCustomer);
-        when(accountOutPort.findByAccountNumber("1001234567", "1001234567"))
-                .thenThrow(new ResourceNotFoundException("Not found"));
+        when(accountOutPort.existsByAccountNumber("1001234567", "1001234567")).thenReturn(false);
         when(accountOutPort.save(any(Account.class))).thenReturn(accountForFirstCall);
 
         accountUseCase.delete(accountId);
 
         verify(accountOutPort, times(2)).findById(accountId);
         verify(customerService, times(1)).findById("CUST001");
-        verify(accountOutPort, times(1)).findByAccountNumber("1001234567", "1001234567");
+        verify(accountOutPort, times(1)).existsByAccountNumber("1001234567", "1001234567");
         verify(accountOutPort, times(1)).save(any(Account.class));
 
         verify(accountOutPort).save(argThat(account ->
@@ -232,4 +306,65 @@ class AccountUseCaseTest {
             Boolean.FALSE.equals(account.isStatus())
         ));
     }
+
+    @Test
+    void testUpdateBalance_Success() {
+        Account updated = Account.builder().accountId("ACC001").initialBalance(new BigDecimal("800.00")).build();
+        when(accountOutPort.updateBalance("ACC001", new BigDecimal("-200.00"))).thenReturn(Optional.of(updated));
+
+        Account result = accountUseCase.updateBalance("ACC001", new BigDecimal("-200.00"));
+
+        assertEquals(new BigDecimal("800.00"), result.getInitialBalance());
+
+        verify(accountOutPort, times(1)).updateBalance("ACC001", new BigDecimal("-200.00"));
+        verify(accountOutPort, never()).existsByAccountNumber(any(), any());
+        verify(customerService, never()).findById(any());
+    }
+
+    @Test
+    void testUpdateBalance_InsufficientBalance() {
+        when(accountOutPort.updateBalance("ACC001", new BigDecimal("-5000.00"))).thenReturn(Optional.empty());
+        when(accountOutPort.findById("ACC001")).thenReturn(mockAccount);
+
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> accountUseCase.updateBalance("ACC001", new BigDecimal("-5000.00")));
+
+        assertEquals("Insufficient account balance", exception.getMessage());
+    }
+
+    @Test
+    void testUpdateBalance_InactiveAccount() {
+        mockAccount.setStatus(false);
+        when(accountOutPort.updateBalance("ACC001", new BigDecimal("100.00"))).thenReturn(Optional.empty());
+        when(accountOutPort.findById("ACC001")).thenReturn(mockAccount);
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> accountUseCase.updateBalance("ACC001", new BigDecimal("100.00")));
+        verifyNoInteractions(dashboardCounters);
+    }
+
+    @Test
+    void testFindBalanceAt_ReturnsLastDayOnOrBeforeDate() {
+        DailyBalance balance = DailyBalance.builder()
+                .accountId("ACC001")
+                .balanceDate(LocalDate.of(2025, 9, 28))
+                .closingBalance(new BigDecimal("750.00"))
+                .build();
+        when(accountOutPort.findById("ACC001")).thenReturn(mockAccount);
+        when(dailyBalanceOutPort.findLatest("ACC001", LocalDate.of(2025, 9, 30))).thenReturn(Optional.of(balance));
+
+        DailyBalance result = accountUseCase.findBalanceAt("ACC001", LocalDate.of(2025, 9, 30));
+
+        assertEquals(new BigDecimal("750.00"), result.getClosingBalance());
+        assertEquals(LocalDate.of(2025, 9, 28), result.getBalanceDate());
+    }
+
+    @Test
+    void testFindBalanceAt_NoMovementsUntilDate() {
+        when(accountOutPort.findById("ACC001")).thenReturn(mockAccount);
+        when(dailyBalanceOutPort.findLatest("ACC001", LocalDate.of(2025, 9, 30))).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> accountUseCase.findBalanceAt("ACC001", LocalDate.of(2025, 9, 30)));
+    }
 }
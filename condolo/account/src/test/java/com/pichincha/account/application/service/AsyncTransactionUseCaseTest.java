@@ -0,0 +1,110 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.exception.ResourceNotFoundException;
+import com.pichincha.account.application.exception.ServiceUnavailableException;
+import com.pichincha.account.application.input.port.TransactionService;
+import com.pichincha.account.domain.PostingTicket;
+import com.pichincha.account.domain.Transaction;
+import com.pichincha.account.domain.TransactionResult;
+import com.pichincha.account.domain.enums.PostingStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncTransactionUseCaseTest {
+
+    @Mock
+    private TransactionService transactionService;
+
+    private AsyncTransactionUseCase asyncTransactionUseCase;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (asyncTransactionUseCase != null) {
+            asyncTransactionUseCase.stop();
+        }
+    }
+
+    @Test
+    void testSubmit_ReturnsPendingTicketAndCompletesInAccountOrder() throws InterruptedException {
+        List<String> appliedIds = new ArrayList<>();
+        when(transactionService.createBatch(anyList())).thenAnswer(invocation -> {
+            List<Transaction> group = invocation.getArgument(0);
+            return IntStream.range(0, group.size())
+                    .mapToObj(index -> {
+                        synchronized (appliedIds) {
+                            appliedIds.add(group.get(index).getTransactionId());
+                        }
+                        return TransactionResult.builder()
+                                .index(index)
+                                .status(PostingStatus.POSTED)
+                                .transaction(group.get(index))
+                                .build();
+                    })
+                    .toList();
+        });
+        asyncTransactionUseCase = new AsyncTransactionUseCase(transactionService, 2, 16, 10, 100);
+        asyncTransactionUseCase.start();
+
+        List<PostingTicket> tickets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tickets.add(asyncTransactionUseCase.submit(deposit("TXN00" + i)));
+        }
+
+        assertEquals(PostingStatus.PENDING, tickets.get(0).getStatus());
+        for (PostingTicket ticket : tickets) {
+            assertEquals(PostingStatus.POSTED, awaitCompletion(ticket.getTicketId()).getStatus());
+        }
+        assertEquals(List.of("TXN000", "TXN001", "TXN002", "TXN003", "TXN004"), appliedIds);
+    }
+
+    @Test
+    void testSubmit_PipelineNotRunning() {
+        asyncTransactionUseCase = new AsyncTransactionUseCase(transactionService, 1, 1, 1, 100);
+
+        assertThrows(ServiceUnavailableException.class,
+            () -> asyncTransactionUseCase.submit(deposit("TXN001")));
+
+        verify(transactionService, never()).createBatch(anyList());
+    }
+
+    @Test
+    void testFindTicket_NotFound() {
+        asyncTransactionUseCase = new AsyncTransactionUseCase(transactionService, 1, 1, 1, 100);
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> asyncTransactionUseCase.findTicket("unknown"));
+    }
+
+    private PostingTicket awaitCompletion(String ticketId) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            PostingTicket ticket = asyncTransactionUseCase.findTicket(ticketId);
+            if (ticket.getStatus() != PostingStatus.PENDING) {
+                return ticket;
+            }
+            Thread.sleep(50);
+        }
+        return fail("The ticket " + ticketId + " was not completed");
+    }
+
+    private Transaction deposit(String transactionId) {
+        return Transaction.builder()
+                .transactionId(transactionId)
+                .accountId("ACC001")
+                .transactionType("DEPOSIT")
+                .amount(new BigDecimal("10.00"))
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.cache.CachingCustomerService;
+import com.pichincha.account.application.input.port.CustomerService;
+import com.pichincha.account.domain.external.Customer;
+import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingCustomerServiceTest {
+
+    @Mock
+    private CustomerService customerClient;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingCustomerService cachingCustomerService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingCustomerService = new CachingCustomerService(
+                customerClient, meterRegistry, 100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testFindById_CachesFoundCustomer() {
+        Customer customer = Customer.builder().customerId("CUST001").status(true).build();
+        when(customerClient.findById("CUST001")).thenReturn(customer);
+
+        assertSame(customer, cachingCustomerService.findById("CUST001"));
+        assertSame(customer, cachingCustomerService.findById("CUST001"));
+
+        verify(customerClient, times(1)).findById("CUST001");
+        assertEquals(1.0, meterRegistry.get("customer.cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("customer.cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testFindById_CachesNotFound() {
+        when(customerClient.findById("MISSING")).thenReturn(null);
+
+        assertNull(cachingCustomerService.findById("MISSING"));
+        assertNull(cachingCustomerService.findById("MISSING"));
+
+        verify(customerClient, times(1)).findById("MISSING");
+    }
+
+    @Test
+    void testFindById_ReloadsAfterInvalidate() {
+        Customer customer = Customer.builder().customerId("CUST001").status(true).build();
+        when(customerClient.findById("CUST001")).thenReturn(customer);
+
+        cachingCustomerService.findById("CUST001");
+        cachingCustomerService.invalidate("CUST001");
+        cachingCustomerService.findById("CUST001");
+
+        verify(customerClient, times(2)).findById("CUST001");
+    }
+
+    @Test
+    void testFindById_DoesNotCacheOtherFailures() {
+        when(customerClient.findById("CUST001")).thenThrow(mock(FeignException.ServiceUnavailable.class));
+
+        assertThrows(FeignException.class, () -> cachingCustomerService.findById("CUST001"));
+        assertThrows(FeignException.class, () -> cachingCustomerService.findById("CUST001"));
+
+        verify(customerClient, times(2)).findById("CUST001");
+    }
+
+    @Test
+    void testFindByIds_LoadsOnlyMissingIds() {
+        Customer cached = Customer.builder().customerId("CUST001").status(true).build();
+        Customer loaded = Customer.builder().customerId("CUST002").status(true).build();
+        when(customerClient.findById("CUST001")).thenReturn(cached);
+        when(customerClient.findByIds(List.of("CUST002", "MISSING"))).thenReturn(Map.of("CUST002", loaded));
+
+        cachingCustomerService.findById("CUST001");
+        Map<String, Customer> result = cachingCustomerService.findByIds(List.of("CUST001", "CUST002", "MISSING"));
+
+        assertEquals(Map.of("CUST001", cached, "CUST002", loaded), result);
+        assertNull(cachingCustomerService.findById("MISSING"));
+        verify(customerClient, never()).findById("MISSING");
+    }
+}
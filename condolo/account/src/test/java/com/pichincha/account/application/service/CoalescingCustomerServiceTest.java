@@ -0,0 +1,73 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.concurrency.CoalescingCustomerService;
+import com.pichincha.account.application.input.port.CustomerService;
+import com.pichincha.account.domain.external.Customer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingCustomerServiceTest {
+
+    @Mock
+    private CustomerService customerClient;
+
+    private CoalescingCustomerService coalescingCustomerService;
+
+    @AfterEach
+    void tearDown() {
+        coalescingCustomerService.stop();
+    }
+
+    @Test
+    void testFindById_CollapsesConcurrentCallsIntoOneBulkLookup() {
+        coalescingCustomerService = new CoalescingCustomerService(customerClient, Duration.ofMillis(200), 100);
+        Customer first = Customer.builder().customerId("CUST001").build();
+        Customer second = Customer.builder().customerId("CUST002").build();
+        when(customerClient.findByIds(anyCollection())).thenReturn(Map.of("CUST001", first, "CUST002", second));
+
+        CompletableFuture<Customer> a = CompletableFuture.supplyAsync(() -> coalescingCustomerService.findById("CUST001"));
+        CompletableFuture<Customer> b = CompletableFuture.supplyAsync(() -> coalescingCustomerService.findById("CUST001"));
+        CompletableFuture<Customer> c = CompletableFuture.supplyAsync(() -> coalescingCustomerService.findById("CUST002"));
+
+        assertSame(first, a.join());
+        assertSame(first, b.join());
+        assertSame(second, c.join());
+        verify(customerClient, times(1)).findByIds(argThat((Collection<String> ids) ->
+                ids.size() == 2 && ids.containsAll(List.of("CUST001", "CUST002"))));
+        verify(customerClient, never()).findById(any());
+    }
+
+    @Test
+    void testFindById_ReturnsNullWhenCustomerMissing() {
+        coalescingCustomerService = new CoalescingCustomerService(customerClient, Duration.ofMillis(1), 100);
+        when(customerClient.findByIds(anyCollection())).thenReturn(Map.of());
+
+        assertNull(coalescingCustomerService.findById("MISSING"));
+    }
+
+    @Test
+    void testFindById_PropagatesBulkLookupFailure() {
+        coalescingCustomerService = new CoalescingCustomerService(customerClient, Duration.ofMillis(1), 1);
+        when(customerClient.findByIds(anyCollection())).thenThrow(new IllegalStateException("down"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> coalescingCustomerService.findById("CUST001"));
+
+        assertEquals("down", exception.getMessage());
+    }
+}
@@ -0,0 +1,151 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.cache.CachingCustomerService;
+import com.pichincha.account.application.cache.ReportCache;
+import com.pichincha.account.application.input.port.CustomerChangeClient;
+import com.pichincha.account.application.output.port.CustomerStatusOutPort;
+import com.pichincha.account.application.stats.DashboardCounters;
+import com.pichincha.account.domain.CustomerStatus;
+import com.pichincha.account.domain.external.CustomerChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerStatusReplicatorTest {
+
+    @Mock
+    private CustomerChangeClient customerChangeClient;
+
+    @Mock
+    private CustomerStatusOutPort customerStatusOutPort;
+
+    @Mock
+    private CachingCustomerService cachingCustomerService;
+
+    @Mock
+    private DashboardCounters dashboardCounters;
+
+    @Mock
+    private ReportCache reportCache;
+
+    private CustomerStatusReplicator replicator;
+
+    @BeforeEach
+    void setUp() {
+        replicator = new CustomerStatusReplicator(customerChangeClient, customerStatusOutPort, cachingCustomerService,
+                dashboardCounters, reportCache, 2, 0);
+    }
+
+    @Test
+    void testPoll_AppliesLatestChangePerCustomer() {
+        when(customerStatusOutPort.findLastChangeId()).thenReturn(10L);
+        when(customerChangeClient.findChanges(10L, 2)).thenReturn(List.of(
+                change(11L, "CUST001", true),
+                change(12L, "CUST001", false)));
+        when(customerChangeClient.findChanges(12L, 2)).thenReturn(List.of());
+        when(customerStatusOutPort.findAllById(anyCollection())).thenReturn(List.of());
+
+        replicator.poll();
+
+        verify(customerStatusOutPort).saveAll(argThat((List<CustomerStatus> statuses) ->
+                statuses.size() == 1
+                        && "CUST001".equals(statuses.get(0).getCustomerId())
+                        && !statuses.get(0).isStatus()
+                        && statuses.get(0).getLastChangeId() == 12L));
+        verify(cachingCustomerService).invalidate("CUST001");
+        verify(reportCache).invalidate("CUST001");
+        verify(dashboardCounters).customerAdded(false);
+    }
+
+    @Test
+    void testPoll_CountsStatusChanges() {
+        when(customerStatusOutPort.findLastChangeId()).thenReturn(0L);
+        when(customerChangeClient.findChanges(0L, 2)).thenReturn(List.of(change(8L, "CUST001", false)));
+        when(customerStatusOutPort.findAllById(anyCollection())).thenReturn(List.of(
+                CustomerStatus.builder().customerId("CUST001").status(true).lastChangeId(7L).build()));
+
+        replicator.poll();
+
+        verify(dashboardCounters).customerStatusChanged(false);
+        verify(dashboardCounters, never()).customerAdded(anyBoolean());
+    }
+
+    @Test
+    void testPoll_SkipsChangesAlreadyApplied() {
+        when(customerStatusOutPort.findLastChangeId()).thenReturn(0L);
+        when(customerChangeClient.findChanges(0L, 2)).thenReturn(List.of(change(5L, "CUST001", false)));
+        when(customerStatusOutPort.findAllById(anyCollection())).thenReturn(List.of(
+                CustomerStatus.builder().customerId("CUST001").status(true).lastChangeId(7L).build()));
+
+        replicator.poll();
+
+        verify(customerStatusOutPort).saveAll(List.of());
+        verify(cachingCustomerService, never()).invalidate(anyString());
+    }
+
+    @Test
+    void testPoll_RereadsTrailingWindowForLateCommits() {
+        CustomerStatusReplicator overlapping = new CustomerStatusReplicator(customerChangeClient,
+                customerStatusOutPort, cachingCustomerService, dashboardCounters, reportCache, 10, 5);
+        when(customerStatusOutPort.findLastChangeId()).thenReturn(20L);
+        when(customerChangeClient.findChanges(15L, 10)).thenReturn(List.of(
+                change(17L, "CUST002", false),
+                change(20L, "CUST001", true)));
+        when(customerStatusOutPort.findAllById(anyCollection())).thenReturn(List.of(
+                CustomerStatus.builder().customerId("CUST001").status(true).lastChangeId(20L).build(),
+                CustomerStatus.builder().customerId("CUST002").status(true).lastChangeId(9L).build()));
+
+        overlapping.poll();
+
+        verify(customerStatusOutPort).saveAll(argThat((List<CustomerStatus> statuses) ->
+                statuses.size() == 1
+                        && "CUST002".equals(statuses.get(0).getCustomerId())
+                        && statuses.get(0).getLastChangeId() == 17L));
+        verify(cachingCustomerService, never()).invalidate("CUST001");
+        verify(dashboardCounters).customerStatusChanged(false);
+    }
+
+    @Test
+    void testPoll_CountsSeededLegacyCustomers() {
+        when(customerStatusOutPort.findLastChangeId()).thenReturn(40L);
+        when(customerChangeClient.findChanges(40L, 2)).thenReturn(List.of(
+                change(41L, "LEGACY001", true),
+                change(42L, "LEGACY002", false)));
+        when(customerChangeClient.findChanges(42L, 2)).thenReturn(List.of());
+        when(customerStatusOutPort.findAllById(anyCollection())).thenReturn(List.of());
+
+        replicator.poll();
+
+        verify(customerStatusOutPort).saveAll(argThat((List<CustomerStatus> statuses) -> statuses.size() == 2));
+        verify(dashboardCounters).customerAdded(true);
+        verify(dashboardCounters).customerAdded(false);
+    }
+
+    @Test
+    void testPoll_SwallowsFeedFailure() {
+        when(customerStatusOutPort.findLastChangeId()).thenReturn(0L);
+        when(customerChangeClient.findChanges(anyLong(), anyInt())).thenThrow(new IllegalStateException("down"));
+
+        assertDoesNotThrow(() -> replicator.poll());
+
+        verify(customerStatusOutPort, never()).saveAll(anyList());
+    }
+
+    private static CustomerChange change(long changeId, String customerId, boolean status) {
+        return CustomerChange.builder().changeId(changeId).customerId(customerId).status(status).build();
+    }
+}
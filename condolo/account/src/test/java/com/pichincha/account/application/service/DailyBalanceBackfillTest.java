@@ -0,0 +1,56 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.output.port.DailyBalanceOutPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailyBalanceBackfillTest {
+
+    @Mock
+    private DailyBalanceOutPort dailyBalanceOutPort;
+
+    @Test
+    void testBackfill_RebuildsRangeInChunks() {
+        DailyBalanceBackfill backfill = new DailyBalanceBackfill(dailyBalanceOutPort, 7, 2, false);
+        when(dailyBalanceOutPort.rebuild(any(LocalDate.class), any(LocalDate.class))).thenReturn(3L);
+
+        long rows = backfill.backfill(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 16));
+
+        assertEquals(9L, rows);
+        verify(dailyBalanceOutPort).rebuild(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 7));
+        verify(dailyBalanceOutPort).rebuild(LocalDate.of(2025, 9, 8), LocalDate.of(2025, 9, 14));
+        verify(dailyBalanceOutPort).rebuild(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 16));
+        verifyNoMoreInteractions(dailyBalanceOutPort);
+    }
+
+    @Test
+    void testBackfill_ChunkFailureFailsBackfill() {
+        DailyBalanceBackfill backfill = new DailyBalanceBackfill(dailyBalanceOutPort, 1, 1, false);
+        when(dailyBalanceOutPort.rebuild(any(LocalDate.class), any(LocalDate.class)))
+                .thenThrow(new IllegalStateException("Lock wait timeout"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> backfill.backfill(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 1)));
+
+        assertEquals("Lock wait timeout", exception.getMessage());
+    }
+
+    @Test
+    void testBackfill_NoTransactionsWritesNothing() {
+        DailyBalanceBackfill backfill = new DailyBalanceBackfill(dailyBalanceOutPort, 7, 4, false);
+        when(dailyBalanceOutPort.findFirstTransactionDate()).thenReturn(Optional.empty());
+
+        assertEquals(0L, backfill.backfill());
+        verify(dailyBalanceOutPort, never()).rebuild(any(), any());
+    }
+}
@@ -0,0 +1,126 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.output.port.AccountOutPort;
+import com.pichincha.account.application.output.port.CustomerStatusOutPort;
+import com.pichincha.account.application.output.port.TransactionOutPort;
+import com.pichincha.account.application.stats.DashboardCounters;
+import com.pichincha.account.domain.Account;
+import com.pichincha.account.domain.DashboardStats;
+import com.pichincha.account.domain.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardCountersTest {
+
+    @Mock
+    private AccountOutPort accountOutPort;
+
+    @Mock
+    private TransactionOutPort transactionOutPort;
+
+    @Mock
+    private CustomerStatusOutPort customerStatusOutPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DashboardCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new DashboardCounters(accountOutPort, transactionOutPort, customerStatusOutPort, transactionManager);
+        when(customerStatusOutPort.count()).thenReturn(10L);
+        when(customerStatusOutPort.countActive()).thenReturn(8L);
+        when(accountOutPort.count()).thenReturn(5L);
+        when(accountOutPort.countActive()).thenReturn(4L);
+        when(accountOutPort.sumActiveBalance()).thenReturn(new BigDecimal("1500.00"));
+        when(transactionOutPort.count()).thenReturn(100L);
+        when(transactionOutPort.countByDateRange(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(3L);
+    }
+
+    @Test
+    void testSnapshot_RebuildsFromAggregatesOnFirstRead() {
+        DashboardStats stats = counters.snapshot();
+
+        assertEquals(10L, stats.getTotalCustomers());
+        assertEquals(8L, stats.getActiveCustomers());
+        assertEquals(5L, stats.getTotalAccounts());
+        assertEquals(4L, stats.getActiveAccounts());
+        assertEquals(100L, stats.getTotalTransactions());
+        assertEquals(3L, stats.getTodayTransactions());
+        assertEquals(new BigDecimal("1500.00"), stats.getTotalBalance());
+
+        counters.snapshot();
+        verify(transactionOutPort, times(1)).count();
+    }
+
+    @Test
+    void testSnapshot_ReflectsWritesWithoutQuerying() {
+        counters.rebuild();
+        Account account = Account.builder().initialBalance(new BigDecimal("200.00")).status(true).build();
+        Account closed = Account.builder().initialBalance(new BigDecimal("200.00")).status(false).build();
+
+        counters.accountCreated(account);
+        counters.balanceChanged(new BigDecimal("-50.00"));
+        counters.transactionsPosted(List.of(
+                Transaction.builder().date(LocalDateTime.now()).build(),
+                Transaction.builder().date(LocalDateTime.now().minusDays(2)).build()));
+        counters.accountUpdated(account, closed);
+        counters.customerAdded(true);
+        counters.customerStatusChanged(false);
+        DashboardStats stats = counters.snapshot();
+
+        assertEquals(11L, stats.getTotalCustomers());
+        assertEquals(8L, stats.getActiveCustomers());
+        assertEquals(6L, stats.getTotalAccounts());
+        assertEquals(4L, stats.getActiveAccounts());
+        assertEquals(102L, stats.getTotalTransactions());
+        assertEquals(4L, stats.getTodayTransactions());
+        assertEquals(new BigDecimal("1450.00"), stats.getTotalBalance());
+        verify(transactionOutPort, times(1)).count();
+    }
+
+    @Test
+    void testTransactionRemoved_DecrementsTodayOnlyForTodaysPostings() {
+        counters.rebuild();
+
+        counters.transactionRemoved(LocalDateTime.now());
+        counters.transactionRemoved(LocalDateTime.now().minusDays(1));
+        DashboardStats stats = counters.snapshot();
+
+        assertEquals(98L, stats.getTotalTransactions());
+        assertEquals(2L, stats.getTodayTransactions());
+    }
+
+    @Test
+    void testWrites_AppliedOnlyAfterCommit() {
+        counters.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.balanceChanged(new BigDecimal("100.00"));
+
+            assertEquals(new BigDecimal("1500.00"), counters.snapshot().getTotalBalance());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(new BigDecimal("1600.00"), counters.snapshot().getTotalBalance());
+    }
+}
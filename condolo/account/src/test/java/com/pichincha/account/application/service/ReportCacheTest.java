@@ -0,0 +1,112 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.cache.ReportCache;
+import com.pichincha.account.domain.Report;
+import com.pichincha.account.domain.Transaction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportCacheTest {
+
+    private static final LocalDateTime SEPTEMBER = LocalDateTime.of(2025, 9, 1, 0, 0);
+
+    private static final LocalDateTime OCTOBER = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ReportCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ReportCache(meterRegistry, 2, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void testGet_ReturnsCachedReportAndCountsHits() {
+        ReportCache.Key key = key("CUST001", SEPTEMBER, 0);
+        Report report = report(3);
+
+        assertNull(cache.get(key));
+        cache.put(key, report, cache.stamp("CUST001"));
+
+        assertSame(report, cache.get(key));
+        assertEquals(0.5, cache.hitRatio());
+        assertEquals(1.0, meterRegistry.get("account.report.cache.gets").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(512 + 3 * 640, meterRegistry.get("account.report.cache.estimated.bytes").gauge().value());
+    }
+
+    @Test
+    void testInvalidate_DropsOnlyRangesCoveringThePosting() {
+        ReportCache.Key september = key("CUST001", SEPTEMBER, 0);
+        ReportCache.Key october = key("CUST001", OCTOBER, 0);
+        cache.put(september, report(1), cache.stamp("CUST001"));
+        cache.put(october, report(1), cache.stamp("CUST001"));
+
+        cache.invalidate("CUST001", SEPTEMBER.plusDays(3));
+
+        assertNull(cache.get(september));
+        assertNotNull(cache.get(october));
+    }
+
+    @Test
+    void testInvalidate_LeavesOtherCustomersCached() {
+        ReportCache.Key key = key("CUST002", SEPTEMBER, 0);
+        cache.put(key, report(1), cache.stamp("CUST002"));
+
+        cache.invalidate("CUST001", SEPTEMBER.plusDays(3));
+
+        assertNotNull(cache.get(key));
+    }
+
+    @Test
+    void testPut_DiscardsReportLoadedBeforeInvalidation() {
+        ReportCache.Key key = key("CUST001", SEPTEMBER, 0);
+        long stamp = cache.stamp("CUST001");
+
+        cache.invalidate("CUST001", SEPTEMBER.plusDays(3));
+        cache.put(key, report(1), stamp);
+
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsed() {
+        ReportCache.Key first = key("CUST001", SEPTEMBER, 0);
+        ReportCache.Key second = key("CUST001", SEPTEMBER, 1);
+        ReportCache.Key third = key("CUST001", SEPTEMBER, 2);
+        cache.put(first, report(1), cache.stamp("CUST001"));
+        cache.put(second, report(1), cache.stamp("CUST001"));
+        cache.get(first);
+
+        cache.put(third, report(1), cache.stamp("CUST001"));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(first));
+        assertNull(cache.get(second));
+        assertEquals(1.0, meterRegistry.get("account.report.cache.evictions").functionCounter().count());
+        assertEquals(2 * (512 + 640), cache.estimatedBytes());
+    }
+
+    private static ReportCache.Key key(String customerId, LocalDateTime start, int page) {
+        return new ReportCache.Key(customerId, start, start.plusMonths(1).minusNanos(1), PageRequest.of(page, 10));
+    }
+
+    private static Report report(int rows) {
+        List<Transaction> transactions = IntStream.range(0, rows)
+                .mapToObj(i -> Transaction.builder().transactionId("TXN" + i).build())
+                .toList();
+        return Report.builder().transactions(new PageImpl<>(transactions)).build();
+    }
+}
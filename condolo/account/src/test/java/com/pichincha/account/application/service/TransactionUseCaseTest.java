@@ -1,12 +1,24 @@
 package com.pichincha.account.application.service;
 
+import com.pichincha.account.application.cache.IdempotencyKeyStore;
+import com.pichincha.account.application.cache.ReportCache;
+import com.pichincha.account.application.concurrency.AccountPostingEngine;
+import com.pichincha.account.application.exception.BadRequestException;
+import com.pichincha.account.application.exception.ServiceUnavailableException;
 import com.pichincha.account.application.exception.ValidationException;
+import com.pichincha.account.application.pagination.CursorCodec;
+import com.pichincha.account.application.stats.DashboardCounters;
 import com.pichincha.account.application.input.port.AccountService;
 import com.pichincha.account.application.input.port.CustomerService;
+import com.pichincha.account.application.output.port.DailyBalanceOutPort;
 import com.pichincha.account.application.output.port.TransactionOutPort;
 import com.pichincha.account.domain.Account;
+import com.pichincha.account.domain.AccountSummary;
+import com.pichincha.account.domain.CursorPage;
 import com.pichincha.account.domain.Report;
 import com.pichincha.account.domain.Transaction;
+import com.pichincha.account.domain.TransactionResult;
+import com.pichincha.account.domain.enums.PostingStatus;
 import com.pichincha.account.domain.external.Customer;
 import feign.FeignException;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,14 +31,27 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -42,6 +67,21 @@ class TransactionUseCaseTest {
     @Mock
     private CustomerService customerService;
 
+    @Mock
+    private AccountPostingEngine postingEngine;
+
+    @Mock
+    private IdempotencyKeyStore idempotencyKeyStore;
+
+    @Mock
+    private DashboardCounters dashboardCounters;
+
+    @Mock
+    private ReportCache reportCache;
+
+    @Mock
+    private DailyBalanceOutPort dailyBalanceOutPort;
+
     @InjectMocks
     private TransactionUseCase transactionUseCase;
 
@@ -51,6 +91,9 @@ class TransactionUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(postingEngine.post(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
         mockAccount = Account.builder()
                 .accountId("ACC001")
                 .accountNumber("1001234567")
@@ -84,9 +127,9 @@ class TransactionUseCaseTest {
                 .amount(new BigDecimal("500.00"))
                 .build();
 
-        when(accountService.findById("ACC001")).thenReturn(mockAccount);
+        when(accountService.updateBalance("ACC001", new BigDecimal("500.00")))
+                .thenReturn(accountWithBalance("1500.00"));
         when(transactionOutPort.save(any(Transaction.class))).thenReturn(mockTransaction);
-        when(accountService.update(any(Account.class))).thenReturn(mockAccount);
 
         Transaction result = transactionUseCase.create(inputTransaction);
 
@@ -97,9 +140,15 @@ class TransactionUseCaseTest {
         assertEquals(new BigDecimal("500.00"), result.getAmount());
         assertEquals(new BigDecimal("1500.00"), result.getBalance());
 
-        verify(accountService, times(1)).findById("ACC001");
-        verify(transactionOutPort, times(1)).save(any(Transaction.class));
-        verify(accountService, times(1)).update(any(Account.class));
+        verify(postingEngine, times(1)).post(eq("ACC001"), any());
+        verify(accountService, never()).findById(any());
+        verify(transactionOutPort, times(1)).save(argThat(transaction ->
+            "CUST001".equals(transaction.getCustomerId()) &&
+            new BigDecimal("1500.00").equals(transaction.getBalance())
+        ));
+        verify(accountService, times(1)).updateBalance("ACC001", new BigDecimal("500.00"));
+        verify(accountService, never()).update(any(Account.class));
+        verify(dailyBalanceOutPort, times(1)).record(List.of(inputTransaction));
     }
 
     @Test
@@ -119,9 +168,9 @@ class TransactionUseCaseTest {
                 .date(LocalDateTime.now())
                 .build();
 
-        when(accountService.findById("ACC001")).thenReturn(mockAccount);
+        when(accountService.updateBalance("ACC001", new BigDecimal("-300.00")))
+                .thenReturn(accountWithBalance("700.00"));
         when(transactionOutPort.save(any(Transaction.class))).thenReturn(withdrawalTransaction);
-        when(accountService.update(any(Account.class))).thenReturn(mockAccount);
 
         Transaction result = transactionUseCase.create(inputTransaction);
 
@@ -132,9 +181,51 @@ class TransactionUseCaseTest {
         assertEquals(new BigDecimal("-300.00"), result.getAmount());
         assertEquals(new BigDecimal("700.00"), result.getBalance());
 
-        verify(accountService, times(1)).findById("ACC001");
+        verify(transactionOutPort, times(1)).save(argThat(transaction ->
+            new BigDecimal("700.00").equals(transaction.getBalance())));
+        verify(accountService, times(1)).updateBalance("ACC001", new BigDecimal("-300.00"));
+        verify(accountService, never()).update(any(Account.class));
+    }
+
+    @Test
+    void testCreateTransaction_ReplayedIdempotencyKey() {
+        Transaction inputTransaction = Transaction.builder()
+                .accountId("ACC001")
+                .transactionType("DEPOSIT")
+                .amount(new BigDecimal("500.00"))
+                .idempotencyKey("key-001")
+                .build();
+
+        when(idempotencyKeyStore.find("key-001")).thenReturn(Optional.of(mockTransaction));
+
+        Transaction result = transactionUseCase.create(inputTransaction);
+
+        assertSame(mockTransaction, result);
+        verify(postingEngine, never()).post(anyString(), any());
+        verify(accountService, never()).findById(any());
+        verify(accountService, never()).updateBalance(any(), any());
+        verify(transactionOutPort, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    void testCreateTransaction_NewIdempotencyKeyIsRemembered() {
+        Transaction inputTransaction = Transaction.builder()
+                .accountId("ACC001")
+                .transactionType("DEPOSIT")
+                .amount(new BigDecimal("500.00"))
+                .idempotencyKey("key-002")
+                .build();
+
+        when(idempotencyKeyStore.find("key-002")).thenReturn(Optional.empty());
+        when(accountService.updateBalance("ACC001", new BigDecimal("500.00")))
+                .thenReturn(accountWithBalance("1500.00"));
+        when(transactionOutPort.save(any(Transaction.class))).thenReturn(mockTransaction);
+
+        Transaction result = transactionUseCase.create(inputTransaction);
+
+        assertEquals("TXN001", result.getTransactionId());
         verify(transactionOutPort, times(1)).save(any(Transaction.class));
-        verify(accountService, times(1)).update(any(Account.class));
+        verify(idempotencyKeyStore, times(1)).remember("key-002", mockTransaction);
     }
 
     @Test
@@ -150,6 +241,7 @@ class TransactionUseCaseTest {
 
         assertEquals("The transaction type is not valid", exception.getMessage());
 
+        verify(postingEngine, never()).post(anyString(), any());
         verify(accountService, never()).findById(any());
         verify(transactionOutPort, never()).save(any(Transaction.class));
     }
@@ -179,15 +271,16 @@ class TransactionUseCaseTest {
                 .amount(new BigDecimal("-1500.00"))
                 .build();
 
-        when(accountService.findById("ACC001")).thenReturn(mockAccount);
+        when(accountService.updateBalance("ACC001", new BigDecimal("-1500.00")))
+                .thenThrow(new ValidationException("Insufficient account balance"));
 
         ValidationException exception = assertThrows(ValidationException.class,
             () -> transactionUseCase.create(inputTransaction));
 
         assertEquals("Insufficient account balance", exception.getMessage());
 
-        verify(accountService, times(1)).findById("ACC001");
         verify(transactionOutPort, never()).save(any(Transaction.class));
+        verifyNoInteractions(dailyBalanceOutPort);
     }
 
     @Test
@@ -224,6 +317,88 @@ class TransactionUseCaseTest {
         verify(transactionOutPort, never()).save(any(Transaction.class));
     }
 
+    @Test
+    void testCreateBatch_GroupsByAccountAndAppliesBalancesInMemory() {
+        List<Transaction> batch = Arrays.asList(
+                Transaction.builder().accountId("ACC001").transactionType("DEPOSIT")
+                        .amount(new BigDecimal("200.00")).build(),
+                Transaction.builder().accountId("ACC001").transactionType("INVALID_TYPE")
+                        .amount(new BigDecimal("10.00")).build(),
+                Transaction.builder().accountId("ACC001").transactionType("WITHDRAWAL")
+                        .amount(new BigDecimal("-1500.00")).build(),
+                Transaction.builder().accountId("ACC001").transactionType("WITHDRAWAL")
+                        .amount(new BigDecimal("-700.00")).build());
+
+        when(accountService.findById("ACC001")).thenReturn(mockAccount);
+        when(accountService.updateBalance("ACC001", new BigDecimal("-500.00")))
+                .thenReturn(accountWithBalance("500.00"));
+        when(transactionOutPort.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<TransactionResult> results = transactionUseCase.createBatch(batch);
+
+        assertEquals(4, results.size());
+        assertEquals(PostingStatus.POSTED, results.get(0).getStatus());
+        assertEquals(new BigDecimal("1200.00"), results.get(0).getTransaction().getBalance());
+        assertEquals(PostingStatus.REJECTED, results.get(1).getStatus());
+        assertEquals("The transaction type is not valid", results.get(1).getMessage());
+        assertEquals(PostingStatus.REJECTED, results.get(2).getStatus());
+        assertEquals("Insufficient account balance", results.get(2).getMessage());
+        assertEquals(PostingStatus.POSTED, results.get(3).getStatus());
+        assertEquals(new BigDecimal("500.00"), results.get(3).getTransaction().getBalance());
+
+        verify(postingEngine, times(1)).post(eq("ACC001"), any());
+        verify(accountService, times(1)).findById("ACC001");
+        verify(accountService, times(1)).updateBalance("ACC001", new BigDecimal("-500.00"));
+        verify(transactionOutPort, times(1)).saveAll(anyList());
+        verify(transactionOutPort, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    void testCreateBatch_RebasesBalancesOnConcurrentPosting() {
+        List<Transaction> batch = Arrays.asList(
+                Transaction.builder().accountId("ACC001").transactionType("DEPOSIT")
+                        .amount(new BigDecimal("200.00")).build(),
+                Transaction.builder().accountId("ACC001").transactionType("WITHDRAWAL")
+                        .amount(new BigDecimal("-700.00")).build());
+
+        when(accountService.findById("ACC001")).thenReturn(mockAccount);
+        when(accountService.updateBalance("ACC001", new BigDecimal("-500.00")))
+                .thenReturn(accountWithBalance("600.00"));
+        when(transactionOutPort.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<TransactionResult> results = transactionUseCase.createBatch(batch);
+
+        assertEquals(new BigDecimal("1300.00"), results.get(0).getTransaction().getBalance());
+        assertEquals(new BigDecimal("600.00"), results.get(1).getTransaction().getBalance());
+    }
+
+    @Test
+    void testCreateBatch_PostsLargeAccountGroupsInChunks() {
+        ReflectionTestUtils.setField(transactionUseCase, "batchChunkSize", 2);
+        List<Transaction> batch = Arrays.asList(
+                Transaction.builder().accountId("ACC001").transactionType("DEPOSIT")
+                        .amount(new BigDecimal("100.00")).build(),
+                Transaction.builder().accountId("ACC001").transactionType("DEPOSIT")
+                        .amount(new BigDecimal("100.00")).build(),
+                Transaction.builder().accountId("ACC001").transactionType("DEPOSIT")
+                        .amount(new BigDecimal("100.00")).build());
+
+        when(accountService.findById("ACC001")).thenReturn(mockAccount);
+        when(accountService.updateBalance("ACC001", new BigDecimal("200.00")))
+                .thenReturn(accountWithBalance("1200.00"));
+        when(accountService.updateBalance("ACC001", new BigDecimal("100.00")))
+                .thenReturn(accountWithBalance("1300.00"));
+        when(transactionOutPort.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<TransactionResult> results = transactionUseCase.createBatch(batch);
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == PostingStatus.POSTED));
+        assertEquals(new BigDecimal("1300.00"), results.get(2).getTransaction().getBalance());
+        verify(postingEngine, times(2)).post(eq("ACC001"), any());
+        verify(transactionOutPort, times(2)).saveAll(anyList());
+    }
+
     @Test
     void testFindById_Success() {
         String transactionId = "TXN001";
@@ -256,14 +431,69 @@ class TransactionUseCaseTest {
         verify(transactionOutPort, times(1)).findAll(pageable);
     }
 
+    @Test
+    void testFindAllAfter_LastPageWithOptInTotal() {
+        LocalDateTime afterDate = LocalDateTime.of(2025, 9, 30, 10, 15);
+        String after = CursorCodec.encode(afterDate.toString(), "TXN009");
+
+        when(transactionOutPort.findPage(afterDate, "TXN009", 11)).thenReturn(List.of(mockTransaction));
+        when(transactionOutPort.count()).thenReturn(10L);
+
+        CursorPage<Transaction> result = transactionUseCase.findAllAfter(after, 10, true);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(10L, result.getTotalElements());
+    }
+
+    @Test
+    void testFindAllAfter_InvalidCursor() {
+        assertThrows(BadRequestException.class,
+            () -> transactionUseCase.findAllAfter("not-a-cursor", 10, false));
+
+        verify(transactionOutPort, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void testUpdate_MovesPostingToAnotherCustomersAccount() {
+        LocalDateTime previousDate = LocalDateTime.of(2025, 9, 3, 10, 0);
+        LocalDateTime newDate = LocalDateTime.of(2025, 10, 2, 9, 0);
+        Transaction previous = Transaction.builder().transactionId("TXN001").accountId("ACC001")
+                .customerId("CUST001").date(previousDate).build();
+        Transaction edited = Transaction.builder().transactionId("TXN001").accountId("ACC002")
+                .date(newDate).build();
+
+        when(transactionOutPort.findById("TXN001")).thenReturn(previous);
+        when(accountService.findById("ACC002")).thenReturn(Account.builder()
+                .accountId("ACC002").customerId("CUST002").build());
+        when(postingEngine.post(anyCollection(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(transactionOutPort.save(edited)).thenReturn(edited);
+
+        transactionUseCase.update(edited);
+
+        assertEquals("CUST002", edited.getCustomerId());
+        verify(postingEngine).post(eq(List.of("ACC001", "ACC002")), any());
+        verify(dailyBalanceOutPort).refresh("ACC001", previousDate.toLocalDate());
+        verify(dailyBalanceOutPort).refresh("ACC002", newDate.toLocalDate());
+        verify(reportCache).invalidate("CUST001", previousDate);
+        verify(reportCache).invalidate("CUST002", newDate);
+    }
+
     @Test
     void testDelete_Success() {
         String transactionId = "TXN001";
+        when(transactionOutPort.findById(transactionId)).thenReturn(mockTransaction);
         doNothing().when(transactionOutPort).delete(transactionId);
 
         transactionUseCase.delete(transactionId);
 
+        verify(postingEngine, times(1)).post(eq("ACC001"), any());
         verify(transactionOutPort, times(1)).delete(transactionId);
+        verify(dailyBalanceOutPort, times(1)).remove(mockTransaction);
+        verify(dashboardCounters).transactionRemoved(mockTransaction.getDate());
+        verify(reportCache).invalidate(mockTransaction.getCustomerId(), mockTransaction.getDate());
     }
 
     @Test
@@ -274,11 +504,20 @@ class TransactionUseCaseTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         List<Transaction> transactions = Arrays.asList(mockTransaction);
-        Page<Transaction> transactionPage = new PageImpl<>(transactions, pageable, 1);
 
         when(customerService.findById(customerId)).thenReturn(mockCustomer);
         when(transactionOutPort.findByDateBetween(startDate, endDate, customerId, pageable))
-                .thenReturn(transactionPage);
+                .thenReturn(transactions);
+        when(transactionOutPort.countByDateBetween(startDate, endDate, customerId)).thenReturn(1L);
+        when(transactionOutPort.summarizeByDateBetween(startDate, endDate, customerId)).thenReturn(List.of(
+                AccountSummary.builder()
+                        .accountId("ACC001")
+                        .openingBalance(new BigDecimal("800.00"))
+                        .totalCredits(new BigDecimal("200.00"))
+                        .totalDebits(BigDecimal.ZERO)
+                        .closingBalance(new BigDecimal("1000.00"))
+                        .movements(1)
+                        .build()));
 
         Report result = transactionUseCase.findByDateBetween(startDate, endDate, customerId, pageable);
 
@@ -286,12 +525,174 @@ class TransactionUseCaseTest {
         assertNotNull(result.getCustomer());
         assertEquals("CUST001", result.getCustomer().getCustomerId());
         assertEquals("Juan Pérez", result.getCustomer().getName());
+        assertEquals(1, result.getAccounts().size());
+        assertEquals(new BigDecimal("1000.00"), result.getAccounts().get(0).getClosingBalance());
         assertNotNull(result.getTransactions());
         assertEquals(1, result.getTransactions().getTotalElements());
         assertEquals("TXN001", result.getTransactions().getContent().get(0).getTransactionId());
 
         verify(customerService, times(1)).findById(customerId);
         verify(transactionOutPort, times(1)).findByDateBetween(startDate, endDate, customerId, pageable);
+        verify(transactionOutPort, times(1)).countByDateBetween(startDate, endDate, customerId);
+    }
+
+    @Test
+    void testFindByDateBetween_WholeDaysReadDailyRollup() {
+        ReflectionTestUtils.setField(transactionUseCase, "dailyBalanceReports", true);
+        LocalDateTime startDate = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2025, 9, 30, 23, 59, 59);
+        String customerId = "CUST001";
+        Pageable pageable = PageRequest.of(0, 10);
+        AccountSummary summary = AccountSummary.builder().accountId("ACC001").movements(1).build();
+
+        when(customerService.findById(customerId)).thenReturn(mockCustomer);
+        when(transactionOutPort.findByDateBetween(startDate, endDate, customerId, pageable))
+                .thenReturn(List.of(mockTransaction));
+        when(transactionOutPort.countByDateBetween(startDate, endDate, customerId)).thenReturn(1L);
+        when(dailyBalanceOutPort.summarizeByDateBetween(
+                LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 30), customerId)).thenReturn(List.of(summary));
+
+        Report result = transactionUseCase.findByDateBetween(startDate, endDate, customerId, pageable);
+
+        assertEquals(List.of(summary), result.getAccounts());
+        verify(transactionOutPort, never()).summarizeByDateBetween(any(), any(), any());
+    }
+
+    @Test
+    void testFindByDateBetween_PartialDaysGroupRawTransactions() {
+        ReflectionTestUtils.setField(transactionUseCase, "dailyBalanceReports", true);
+        LocalDateTime startDate = LocalDateTime.of(2025, 9, 1, 8, 0);
+        LocalDateTime endDate = LocalDateTime.of(2025, 9, 30, 23, 59, 59);
+        String customerId = "CUST001";
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(customerService.findById(customerId)).thenReturn(mockCustomer);
+        when(transactionOutPort.findByDateBetween(startDate, endDate, customerId, pageable))
+                .thenReturn(List.of(mockTransaction));
+        when(transactionOutPort.countByDateBetween(startDate, endDate, customerId)).thenReturn(1L);
+        when(transactionOutPort.summarizeByDateBetween(startDate, endDate, customerId)).thenReturn(List.of());
+
+        transactionUseCase.findByDateBetween(startDate, endDate, customerId, pageable);
+
+        verify(transactionOutPort, times(1)).summarizeByDateBetween(startDate, endDate, customerId);
+        verifyNoInteractions(dailyBalanceOutPort);
+    }
+
+    @Test
+    void testFindByDateBetween_ServesCachedReport() {
+        LocalDateTime startDate = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2025, 9, 30, 23, 59);
+        String customerId = "CUST001";
+        Pageable pageable = PageRequest.of(0, 10);
+        Report cached = Report.builder().customer(mockCustomer).build();
+
+        when(reportCache.get(new ReportCache.Key(customerId, startDate, endDate, pageable))).thenReturn(cached);
+
+        Report result = transactionUseCase.findByDateBetween(startDate, endDate, customerId, pageable);
+
+        assertSame(cached, result);
+        verifyNoInteractions(customerService, transactionOutPort);
+    }
+
+    @Test
+    void testFindByDateBetween_RunsLookupAndQueriesConcurrently() {
+        LocalDateTime startDate = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2025, 9, 30, 23, 59);
+        String customerId = "CUST001";
+        Pageable pageable = PageRequest.of(0, 10);
+        CountDownLatch queryStarted = new CountDownLatch(1);
+
+        when(customerService.findById(customerId)).thenAnswer(invocation -> {
+            assertTrue(queryStarted.await(2, TimeUnit.SECONDS));
+            return mockCustomer;
+        });
+        when(transactionOutPort.findByDateBetween(startDate, endDate, customerId, pageable)).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            return List.of(mockTransaction);
+        });
+        when(transactionOutPort.countByDateBetween(startDate, endDate, customerId)).thenReturn(1L);
+
+        Report result = transactionUseCase.findByDateBetween(startDate, endDate, customerId, pageable);
+
+        assertEquals("Juan Pérez", result.getCustomer().getName());
+        assertEquals(1, result.getTransactions().getTotalElements());
+    }
+
+    @Test
+    void testFindByDateBetween_SlowCustomerFallsBackAtDeadline() {
+        LocalDateTime startDate = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2025, 9, 30, 23, 59);
+        String customerId = "CUST001";
+        Pageable pageable = PageRequest.of(0, 10);
+        ReflectionTestUtils.setField(transactionUseCase, "reportDeadline", Duration.ofMillis(100));
+
+        when(customerService.findById(customerId)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return mockCustomer;
+        });
+        when(transactionOutPort.findByDateBetween(startDate, endDate, customerId, pageable))
+                .thenReturn(List.of(mockTransaction));
+        when(transactionOutPort.countByDateBetween(startDate, endDate, customerId)).thenReturn(1L);
+
+        Report result = transactionUseCase.findByDateBetween(startDate, endDate, customerId, pageable);
+
+        assertEquals("Customer unavailable", result.getCustomer().getName());
+        assertEquals(1, result.getTransactions().getTotalElements());
+        verify(reportCache, never()).put(any(), any(), anyLong());
+    }
+
+    @Test
+    void testFindByDateBetween_UnknownCustomerIsNotCached() {
+        LocalDateTime startDate = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2025, 9, 30, 23, 59);
+        String customerId = "CUST404";
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(customerService.findById(customerId)).thenReturn(null);
+        when(transactionOutPort.findByDateBetween(startDate, endDate, customerId, pageable)).thenReturn(List.of());
+        when(transactionOutPort.countByDateBetween(startDate, endDate, customerId)).thenReturn(0L);
+
+        Report result = transactionUseCase.findByDateBetween(startDate, endDate, customerId, pageable);
+
+        assertEquals("CUST404", result.getCustomer().getCustomerId());
+        assertEquals("Customer unavailable", result.getCustomer().getName());
+        verify(reportCache, never()).put(any(), any(), anyLong());
+    }
+
+    @Test
+    void testFindByDateBetween_QueryFailureFailsReport() {
+        LocalDateTime startDate = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2025, 9, 30, 23, 59);
+        String customerId = "CUST001";
+        Pageable pageable = PageRequest.of(0, 10);
+
+        lenient().when(customerService.findById(customerId)).thenReturn(mockCustomer);
+        when(transactionOutPort.findByDateBetween(startDate, endDate, customerId, pageable))
+                .thenThrow(new IllegalStateException("database down"));
+        lenient().when(transactionOutPort.countByDateBetween(startDate, endDate, customerId)).thenReturn(1L);
+
+        assertThrows(IllegalStateException.class,
+                () -> transactionUseCase.findByDateBetween(startDate, endDate, customerId, pageable));
+    }
+
+    @Test
+    void testExportByDateBetween_StreamsRowsWithoutCustomerLookup() {
+        LocalDateTime startDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2025, 12, 31, 23, 59);
+        String customerId = "CUST001";
+        List<Transaction> exported = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            Consumer<Transaction> consumer = invocation.getArgument(3);
+            consumer.accept(mockTransaction);
+            return null;
+        }).when(transactionOutPort).streamByDateBetween(eq(startDate), eq(endDate), eq(customerId), any());
+
+        transactionUseCase.exportByDateBetween(startDate, endDate, customerId, exported::add);
+
+        assertEquals(1, exported.size());
+        assertEquals("TXN001", exported.get(0).getTransactionId());
+        verify(customerService, never()).findById(anyString());
     }
 
     @Test
@@ -302,11 +703,11 @@ class TransactionUseCaseTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         List<Transaction> transactions = Arrays.asList(mockTransaction);
-        Page<Transaction> transactionPage = new PageImpl<>(transactions, pageable, 1);
 
         when(customerService.findById(customerId)).thenThrow(mock(FeignException.class));
         when(transactionOutPort.findByDateBetween(startDate, endDate, customerId, pageable))
-                .thenReturn(transactionPage);
+                .thenReturn(transactions);
+        when(transactionOutPort.countByDateBetween(startDate, endDate, customerId)).thenReturn(1L);
 
         Report result = transactionUseCase.findByDateBetween(startDate, endDate, customerId, pageable);
 
@@ -320,4 +721,32 @@ class TransactionUseCaseTest {
         verify(customerService, times(1)).findById(customerId);
         verify(transactionOutPort, times(1)).findByDateBetween(startDate, endDate, customerId, pageable);
     }
+
+    @Test
+    void testFindByDateBetween_CustomerCircuitOpen() {
+        LocalDateTime startDate = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2025, 9, 30, 23, 59);
+        String customerId = "CUST001";
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(customerService.findById(customerId))
+                .thenThrow(new ServiceUnavailableException("Customer service unavailable"));
+        when(transactionOutPort.findByDateBetween(startDate, endDate, customerId, pageable))
+                .thenReturn(List.of(mockTransaction));
+        when(transactionOutPort.countByDateBetween(startDate, endDate, customerId)).thenReturn(1L);
+
+        Report result = transactionUseCase.findByDateBetween(startDate, endDate, customerId, pageable);
+
+        assertEquals("Customer unavailable", result.getCustomer().getName());
+        assertEquals(1, result.getTransactions().getTotalElements());
+    }
+
+    private Account accountWithBalance(String balance) {
+        return Account.builder()
+                .accountId("ACC001")
+                .customerId("CUST001")
+                .initialBalance(new BigDecimal(balance))
+                .status(true)
+                .build();
+    }
 }
@@ -0,0 +1,161 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.cache.ReportCache;
+import com.pichincha.account.application.concurrency.AccountPostingEngine;
+import com.pichincha.account.application.exception.ValidationException;
+import com.pichincha.account.application.input.port.AccountService;
+import com.pichincha.account.application.output.port.DailyBalanceOutPort;
+import com.pichincha.account.application.output.port.TransactionOutPort;
+import com.pichincha.account.application.stats.DashboardCounters;
+import com.pichincha.account.domain.Account;
+import com.pichincha.account.domain.Transaction;
+import com.pichincha.account.domain.Transfer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferUseCaseTest {
+
+    @Mock
+    private TransactionOutPort transactionOutPort;
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private AccountPostingEngine postingEngine;
+
+    @Mock
+    private DashboardCounters dashboardCounters;
+
+    @Mock
+    private ReportCache reportCache;
+
+    @Mock
+    private DailyBalanceOutPort dailyBalanceOutPort;
+
+    @InjectMocks
+    private TransferUseCase transferUseCase;
+
+    private Account sourceAccount;
+    private Account targetAccount;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(postingEngine.post(anyCollection(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
+        sourceAccount = Account.builder()
+                .accountId("ACC002")
+                .customerId("CUST001")
+                .initialBalance(new BigDecimal("1000.00"))
+                .status(true)
+                .build();
+
+        targetAccount = Account.builder()
+                .accountId("ACC001")
+                .customerId("CUST002")
+                .initialBalance(new BigDecimal("50.00"))
+                .status(true)
+                .build();
+    }
+
+    @Test
+    void testCreateTransfer_Success() {
+        Transfer transfer = Transfer.builder()
+                .sourceAccountId("ACC002")
+                .targetAccountId("ACC001")
+                .amount(new BigDecimal("300.00"))
+                .build();
+
+        when(accountService.findById("ACC002")).thenReturn(sourceAccount);
+        when(accountService.findById("ACC001")).thenReturn(targetAccount);
+        when(accountService.updateBalance("ACC001", new BigDecimal("300.00"))).thenReturn(Account.builder()
+                .accountId("ACC001").customerId("CUST002").initialBalance(new BigDecimal("350.00")).build());
+        when(accountService.updateBalance("ACC002", new BigDecimal("-300.00"))).thenReturn(Account.builder()
+                .accountId("ACC002").customerId("CUST001").initialBalance(new BigDecimal("700.00")).build());
+        when(transactionOutPort.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Transfer result = transferUseCase.create(transfer);
+
+        assertNotNull(result.getTransferId());
+        assertEquals(new BigDecimal("-300.00"), result.getDebit().getAmount());
+        assertEquals(new BigDecimal("700.00"), result.getDebit().getBalance());
+        assertEquals(new BigDecimal("300.00"), result.getCredit().getAmount());
+        assertEquals(new BigDecimal("350.00"), result.getCredit().getBalance());
+        assertEquals(result.getTransferId(), result.getDebit().getTransferId());
+        assertEquals(result.getTransferId(), result.getCredit().getTransferId());
+
+        InOrder inOrder = inOrder(accountService);
+        inOrder.verify(accountService).updateBalance("ACC001", new BigDecimal("300.00"));
+        inOrder.verify(accountService).updateBalance("ACC002", new BigDecimal("-300.00"));
+        verify(postingEngine, times(1)).post(eq(List.of("ACC002", "ACC001")), any());
+        verify(transactionOutPort, times(1)).saveAll(anyList());
+        verify(transactionOutPort, never()).save(any(Transaction.class));
+        verify(dailyBalanceOutPort, times(1)).record(List.of(result.getDebit(), result.getCredit()));
+    }
+
+    @Test
+    void testCreateTransfer_InsufficientBalance() {
+        Transfer transfer = Transfer.builder()
+                .sourceAccountId("ACC002")
+                .targetAccountId("ACC001")
+                .amount(new BigDecimal("1000.01"))
+                .build();
+
+        when(accountService.findById("ACC002")).thenReturn(sourceAccount);
+        when(accountService.findById("ACC001")).thenReturn(targetAccount);
+
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> transferUseCase.create(transfer));
+
+        assertEquals("Insufficient account balance", exception.getMessage());
+        verify(accountService, never()).updateBalance(any(), any());
+        verify(transactionOutPort, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testCreateTransfer_SameAccount() {
+        Transfer transfer = Transfer.builder()
+                .sourceAccountId("ACC001")
+                .targetAccountId("ACC001")
+                .amount(new BigDecimal("10.00"))
+                .build();
+
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> transferUseCase.create(transfer));
+
+        assertEquals("The source and target accounts must be different", exception.getMessage());
+        verify(postingEngine, never()).post(anyCollection(), any());
+    }
+
+    @Test
+    void testCreateTransfer_NonPositiveAmount() {
+        Transfer transfer = Transfer.builder()
+                .sourceAccountId("ACC002")
+                .targetAccountId("ACC001")
+                .amount(new BigDecimal("-10.00"))
+                .build();
+
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> transferUseCase.create(transfer));
+
+        assertEquals("The amount is not valid", exception.getMessage());
+        verify(postingEngine, never()).post(anyCollection(), any());
+    }
+}
@@ -0,0 +1,89 @@
+package com.pichincha.account.application.service;
+
+import com.pichincha.account.application.cache.UniquenessFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniquenessFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UniquenessFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new UniquenessFilter("account.number.filter", meterRegistry, 10_000, 0.01);
+    }
+
+    @Test
+    void testExists_QueriesUntilLoaded() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        assertFalse(filter.exists("1001234567", number -> lookups.incrementAndGet() < 0));
+
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void testExists_SkipsLookupForAbsentValue() {
+        filter.rebuild(sink -> List.of("1001234567", "1001234568").forEach(sink));
+        AtomicInteger lookups = new AtomicInteger();
+
+        assertFalse(filter.exists("2009999999", number -> lookups.incrementAndGet() < 0));
+
+        assertEquals(0, lookups.get());
+        assertEquals(1.0, meterRegistry.get("account.number.filter.checks").tag("result", "skipped")
+                .functionCounter().count());
+    }
+
+    @Test
+    void testExists_QueriesPresentValue() {
+        filter.rebuild(sink -> List.of("1001234567").forEach(sink));
+
+        assertTrue(filter.exists("1001234567", number -> true));
+
+        assertEquals(1.0, meterRegistry.get("account.number.filter.checks").tag("result", "queried")
+                .functionCounter().count());
+    }
+
+    @Test
+    void testPut_ValueIsNeverReportedAbsent() {
+        filter.rebuild(sink -> { });
+        IntStream.range(0, 10_000).mapToObj(i -> "ACC" + i).forEach(filter::put);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.exists("ACC" + i, number -> true));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRate_StaysNearConfiguredProbability() {
+        filter.rebuild(sink -> IntStream.range(0, 10_000).mapToObj(i -> "ACC" + i).forEach(sink));
+
+        IntStream.range(0, 10_000).forEach(i -> filter.exists("NEW" + i, number -> false));
+
+        assertTrue(filter.falsePositiveRate() < 0.03, "rate was " + filter.falsePositiveRate());
+        assertEquals(filter.falsePositiveRate(),
+                meterRegistry.get("account.number.filter.false.positive.rate").gauge().value());
+    }
+
+    @Test
+    void testRebuild_KeepsPreviousFilterWhenScanFails() {
+        filter.rebuild(sink -> sink.accept("1001234567"));
+        filter.rebuild(sink -> {
+            throw new IllegalStateException("database down");
+        });
+        AtomicInteger lookups = new AtomicInteger();
+
+        assertFalse(filter.exists("2009999999", number -> lookups.incrementAndGet() < 0));
+        assertEquals(0, lookups.get());
+    }
+}
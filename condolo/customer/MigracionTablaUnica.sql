@@ -0,0 +1,25 @@
+-- Migra clientes de la herencia JOINED (persons + customers) a una sola tabla persons.
+-- Ejecutar con el servicio detenido y arrancarlo luego con el perfil single-table.
+
+USE pichincha_customers;
+
+ALTER TABLE pichincha_customers.persons
+    ADD COLUMN person_type VARCHAR(16) NOT NULL DEFAULT 'PERSON',
+    ADD COLUMN customer_id VARCHAR(36) NULL UNIQUE,
+    ADD COLUMN password VARCHAR(255) NULL,
+    ADD COLUMN status CHAR(1) NULL;
+
+UPDATE pichincha_customers.persons p
+    JOIN pichincha_customers.customers c ON c.person_id = p.person_id
+SET p.person_type = 'CUSTOMER',
+    p.customer_id = c.customer_id,
+    p.password = c.password,
+    p.status = c.status;
+
+-- Se conserva la tabla anterior hasta validar la migración.
+RENAME TABLE pichincha_customers.customers TO pichincha_customers.customers_joined_backup;
+
+-- Reversión:
+-- RENAME TABLE pichincha_customers.customers_joined_backup TO pichincha_customers.customers;
+-- ALTER TABLE pichincha_customers.persons
+--     DROP COLUMN status, DROP COLUMN password, DROP COLUMN customer_id, DROP COLUMN person_type;
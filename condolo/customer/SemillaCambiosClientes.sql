@@ -0,0 +1,24 @@
+-- Registra en el outbox customer_changes un alta por cada cliente creado antes de que existiera el feed,
+-- para que la réplica customer_status del servicio de cuentas los reciba en su siguiente consulta.
+-- Solo agrega clientes sin ningún cambio registrado, por lo que puede ejecutarse más de una vez.
+
+USE pichincha_customers;
+
+INSERT INTO pichincha_customers.customer_changes (customer_id, status, change_type, changed_at)
+SELECT c.customer_id, c.status, 'CREATED', CURRENT_TIMESTAMP
+FROM pichincha_customers.customers c
+WHERE c.customer_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1
+                  FROM pichincha_customers.customer_changes cc
+                  WHERE cc.customer_id = c.customer_id)
+ORDER BY c.customer_id;
+
+-- Con el perfil single-table (después de MigracionTablaUnica.sql) los clientes están en persons:
+-- INSERT INTO pichincha_customers.customer_changes (customer_id, status, change_type, changed_at)
+-- SELECT p.customer_id, p.status, 'CREATED', CURRENT_TIMESTAMP
+-- FROM pichincha_customers.persons p
+-- WHERE p.person_type = 'CUSTOMER'
+--   AND NOT EXISTS (SELECT 1
+--                   FROM pichincha_customers.customer_changes cc
+--                   WHERE cc.customer_id = p.customer_id)
+-- ORDER BY p.customer_id;
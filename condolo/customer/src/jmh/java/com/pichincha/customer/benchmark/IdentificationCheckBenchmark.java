@@ -0,0 +1,114 @@
+package com.pichincha.customer.benchmark;
+
+import com.pichincha.customer.application.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the identification uniqueness check on the create path, where the identification is almost
+ * always new. {@code fetchAndThrow} is the former shape (load the joined row, throw and catch a
+ * not-found exception); {@code existsQuery} is the current one (first id from the unique index).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdentificationCheckBenchmark {
+
+    private static final String FETCH_SQL = "SELECT p.person_id, p.name, p.gender, p.age, p.identification, "
+            + "p.address, p.phone, c.customer_id, c.password, c.status FROM persons p "
+            + "JOIN customers c ON c.person_id = p.person_id WHERE p.identification = ?";
+
+    private static final String EXISTS_SQL = "SELECT p.person_id FROM persons p WHERE p.identification = ? LIMIT 1";
+
+    @Param({"10000"})
+    private int rows;
+
+    private Connection connection;
+
+    private PreparedStatement fetch;
+
+    private PreparedStatement exists;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:identification;MODE=MySQL");
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("CREATE TABLE persons (person_id VARCHAR(36) PRIMARY KEY, name VARCHAR(100), "
+                    + "gender VARCHAR(10), age INT, identification VARCHAR(20) UNIQUE, address VARCHAR(200), "
+                    + "phone VARCHAR(20))");
+            statement.execute("CREATE TABLE customers (person_id VARCHAR(36) PRIMARY KEY, "
+                    + "customer_id VARCHAR(36) UNIQUE, password VARCHAR(100), status BOOLEAN)");
+        }
+        try (PreparedStatement person = this.connection.prepareStatement(
+                "INSERT INTO persons VALUES (?, 'Jose Lema', 'M', 30, ?, 'Otavalo sn y principal', '098254785')");
+             PreparedStatement customer = this.connection.prepareStatement(
+                     "INSERT INTO customers VALUES (?, ?, '$2a$10$abcdefghijklmnopqrstuv', TRUE)")) {
+            for (int i = 0; i < this.rows; i++) {
+                String id = "P" + i;
+                person.setString(1, id);
+                person.setString(2, identification(i));
+                person.addBatch();
+                customer.setString(1, id);
+                customer.setString(2, "C" + i);
+                customer.addBatch();
+            }
+            person.executeBatch();
+            customer.executeBatch();
+        }
+        this.fetch = this.connection.prepareStatement(FETCH_SQL);
+        this.exists = this.connection.prepareStatement(EXISTS_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        this.connection.close();
+    }
+
+    @Benchmark
+    public boolean fetchAndThrow() throws SQLException {
+        this.fetch.setString(1, newIdentification());
+        try {
+            try (ResultSet resultSet = this.fetch.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new ResourceNotFoundException("Person not found");
+                }
+                return true;
+            }
+        } catch (ResourceNotFoundException ex) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean existsQuery() throws SQLException {
+        this.exists.setString(1, newIdentification());
+        try (ResultSet resultSet = this.exists.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+
+    private String newIdentification() {
+        return identification(this.rows + ThreadLocalRandom.current().nextInt(this.rows));
+    }
+
+    private static String identification(int i) {
+        return String.format("%010d", i);
+    }
+}
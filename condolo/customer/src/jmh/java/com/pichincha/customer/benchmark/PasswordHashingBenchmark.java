@@ -0,0 +1,48 @@
+package com.pichincha.customer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt throughput on a single thread, i.e. hashes per second per core. Run with {@code ./gradlew jmh}
+ * and size the hashing pool as cores x score against the expected onboarding rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PasswordHashingBenchmark {
+
+    @Param({"10", "11", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        this.encoder = new BCryptPasswordEncoder(this.strength);
+        this.encoded = this.encoder.encode("Password123!");
+    }
+
+    @Benchmark
+    public String encode() {
+        return this.encoder.encode("Password123!");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return this.encoder.matches("Password123!", this.encoded);
+    }
+}
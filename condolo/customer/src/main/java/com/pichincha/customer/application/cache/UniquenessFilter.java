@@ -0,0 +1,162 @@
+package com.pichincha.customer.application.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Rebuildable {@link BloomFilter} in front of a uniqueness lookup. A definite "absent" answer skips the
+ * lookup; a "maybe present" answer runs it, and a lookup that then finds nothing is counted as a false
+ * positive. Until the first {@link #rebuild(Consumer)} completes every check runs the lookup, and the
+ * database unique constraint remains the final guard either way: a stale or rebuilding filter can
+ * answer "absent" for a value another instance just saved, so callers translate the violation that
+ * {@link #isDuplicate} recognizes into the same validation error the lookup would have raised.
+ */
+@Slf4j
+public class UniquenessFilter {
+
+    private final String name;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter filter;
+
+    private volatile BloomFilter building;
+
+    private final LongAdder skipped = new LongAdder();
+
+    private final LongAdder queried = new LongAdder();
+
+    private final LongAdder falsePositives = new LongAdder();
+
+    public UniquenessFilter(String name, MeterRegistry meterRegistry, long expectedInsertions,
+                            double falsePositiveProbability) {
+        this.name = name;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        FunctionCounter.builder(name + ".checks", this.skipped, LongAdder::sum)
+                .tag("result", "skipped")
+                .register(meterRegistry);
+        FunctionCounter.builder(name + ".checks", this.queried, LongAdder::sum)
+                .tag("result", "queried")
+                .register(meterRegistry);
+        FunctionCounter.builder(name + ".false.positives", this.falsePositives, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder(name + ".false.positive.rate", this, UniquenessFilter::falsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder(name + ".expected.false.positive.rate", this, UniquenessFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Replaces the filter with one loaded from {@code source}. Values put while the scan runs go into
+     * both filters, so nothing saved during the rebuild is lost; removed values disappear only here.
+     */
+    public void rebuild(Consumer<Consumer<String>> source) {
+        BloomFilter next = new BloomFilter(this.expectedInsertions, this.falsePositiveProbability);
+        this.building = next;
+        try {
+            long started = System.nanoTime();
+            source.accept(value -> {
+                if (value != null) {
+                    next.put(value);
+                }
+            });
+            this.filter = next;
+            log.info("Rebuilt {} filter in {} ms", this.name, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.warn("Could not rebuild {} filter: {}", this.name, ex.getMessage());
+        } finally {
+            this.building = null;
+        }
+    }
+
+    public void put(String value) {
+        if (value == null) {
+            return;
+        }
+        BloomFilter current = this.filter;
+        if (current != null) {
+            current.put(value);
+        }
+        BloomFilter next = this.building;
+        if (next != null) {
+            next.put(value);
+        }
+    }
+
+    public boolean exists(String value, Predicate<String> lookup) {
+        BloomFilter current = this.filter;
+        if (current != null && !current.mightContain(value)) {
+            this.skipped.increment();
+            return false;
+        }
+        this.queried.increment();
+        boolean found = lookup.test(value);
+        if (!found && current != null) {
+            this.falsePositives.increment();
+        }
+        return found;
+    }
+
+    /**
+     * Bulk form of {@link #exists(String, Predicate)}: only the values the filter cannot rule out are
+     * passed to {@code lookup}, which returns those of them that are present.
+     */
+    public Set<String> existing(Collection<String> values, Function<Collection<String>, Collection<String>> lookup) {
+        BloomFilter current = this.filter;
+        List<String> candidates = current == null
+                ? new ArrayList<>(values)
+                : values.stream().filter(current::mightContain).toList();
+        this.skipped.add(values.size() - candidates.size());
+        this.queried.add(candidates.size());
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> found = new HashSet<>(lookup.apply(candidates));
+        if (current != null) {
+            this.falsePositives.add(candidates.size() - found.size());
+        }
+        return found;
+    }
+
+    /** Share of absent values the filter failed to rule out, as observed on real checks. */
+    public double falsePositiveRate() {
+        long negatives = this.skipped.sum() + this.falsePositives.sum();
+        return negatives == 0 ? 0 : (double) this.falsePositives.sum() / negatives;
+    }
+
+    public double expectedFalsePositiveRate() {
+        BloomFilter current = this.filter;
+        return current == null ? 1 : current.expectedFalsePositiveProbability();
+    }
+
+    /**
+     * Whether {@code ex} is a duplicate key on the unique index of {@code column}. Both MySQL
+     * ("Duplicate entry ... for key 'table.column'") and H2 ("Unique index ... (COLUMN ...)") name the
+     * index column in the message.
+     */
+    public static boolean isDuplicate(DataIntegrityViolationException ex, String column) {
+        String message = ex.getMostSpecificCause().getMessage();
+        if (message == null) {
+            return false;
+        }
+        String lower = message.toLowerCase(Locale.ROOT);
+        return (lower.contains("duplicate") || lower.contains("unique")) && lower.contains(column);
+    }
+}
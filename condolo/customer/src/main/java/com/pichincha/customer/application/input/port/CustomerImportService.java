@@ -0,0 +1,12 @@
+package com.pichincha.customer.application.input.port;
+
+import com.pichincha.customer.domain.CustomerImportRow;
+import com.pichincha.customer.domain.ImportResult;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface CustomerImportService {
+
+    void importCustomers(Iterator<CustomerImportRow> rows, Consumer<ImportResult> results);
+}
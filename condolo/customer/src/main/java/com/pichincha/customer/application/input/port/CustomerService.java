@@ -1,9 +1,14 @@
 package com.pichincha.customer.application.input.port;
 
 import com.pichincha.customer.domain.Customer;
+import com.pichincha.customer.domain.CursorPage;
+import com.pichincha.customer.domain.CustomerChange;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Map;
+
 public interface CustomerService {
 
     Customer create(Customer customer);
@@ -12,7 +17,15 @@ public interface CustomerService {
 
     Page<Customer> findAll(Pageable pageable);
 
+    CursorPage<Customer> findAllAfter(String after, int size, boolean includeTotal);
+
     Customer findById(String id);
 
+    Map<String, Customer> findByIds(List<String> ids);
+
+    List<Customer> search(String query, int limit);
+
+    List<CustomerChange> findChanges(long since, int limit);
+
     void delete(String id);
 }
@@ -1,8 +1,10 @@
 package com.pichincha.customer.application.input.port;
 
 import com.pichincha.customer.domain.Person;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
-import java.util.Collection;
+import java.util.function.Consumer;
 
 public interface PersonService {
 
@@ -10,11 +12,15 @@ public interface PersonService {
 
     Person update(Person person);
 
-    Collection<Person> findAll();
+    Page<Person> findAll(Pageable pageable);
+
+    void streamAll(Consumer<Person> consumer);
 
     Person findById(String id);
 
     void delete(String id);
 
     Person findByIdentification(String identification, String identificationUpdated);
+
+    boolean existsByIdentification(String identification, String identificationUpdated);
 }
@@ -0,0 +1,15 @@
+package com.pichincha.customer.application.output.port;
+
+import com.pichincha.customer.domain.CustomerChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CustomerChangeOutPort {
+
+    CustomerChange save(CustomerChange change);
+
+    void saveAll(List<CustomerChange> changes);
+
+    List<CustomerChange> findAfter(long changeId, LocalDateTime changedBefore, int limit);
+}
@@ -4,15 +4,34 @@ import com.pichincha.customer.domain.Customer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Read methods return password-free projections: list reads ({@link #findAll}, {@link #findPage},
+ * {@link #streamAll}, {@link #findByCustomerIds}) also leave out the address. {@link #findByCustomerId} loads the full
+ * customer and is the one to use before a save.
+ */
 public interface CustomerOutPort {
 
     Customer save(Customer customer);
 
     Page<Customer> findAll(Pageable pageable);
 
+    List<Customer> findPage(String afterId, int limit);
+
+    void streamAll(Consumer<Customer> consumer);
+
+    long count();
+
     Customer findById(String id);
 
     Customer findByCustomerId(String customerId);
 
+    List<Customer> findByCustomerIds(Collection<String> customerIds);
+
+    void insertAll(List<Customer> customers);
+
     void delete(String id);
 }
@@ -1,18 +1,28 @@
 package com.pichincha.customer.application.output.port;
 
 import com.pichincha.customer.domain.Person;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface PersonOutPort {
 
     Person save(Person person);
 
-    Collection<Person> findAll();
+    Page<Person> findAll(Pageable pageable);
+
+    void streamAll(Consumer<Person> consumer);
 
     Person findById(String id);
 
     Person findByIdentification(String identification, String identificationUpdate);
 
+    boolean existsByIdentification(String identification, String identificationUpdate);
+
+    Set<String> findExistingIdentifications(Collection<String> identifications);
+
     void delete(String id);
 }
@@ -0,0 +1,49 @@
+package com.pichincha.customer.application.pagination;
+
+import com.pichincha.customer.application.exception.ValidationException;
+import com.pichincha.customer.domain.CursorPage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String encode(String... parts) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T> CursorPage<T> toPage(List<T> rows, int size, Function<T, String> cursorOf, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        return CursorPage.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null)
+                .totalElements(totalElements)
+                .build();
+    }
+
+    public static String[] decode(String cursor, int expectedParts) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("The cursor is not valid");
+        }
+        String[] parts = decoded.split("\\" + SEPARATOR, -1);
+        if (parts.length != expectedParts) {
+            throw new ValidationException("The cursor is not valid");
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,307 @@
+package com.pichincha.customer.application.search;
+
+import com.pichincha.customer.application.output.port.CustomerOutPort;
+import com.pichincha.customer.domain.Customer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory search over customer names and identifications. Identifications are matched by prefix;
+ * names by word prefix and, for typos, by the share of the query's trigrams a name contains. Entries hold
+ * the list columns only, so a search never touches the database. The index is loaded once the
+ * application is ready and then follows the writes made through this instance.
+ */
+@Slf4j
+@Component
+public class CustomerSearchIndex {
+
+    private static final double PREFIX_SCORE = 1.0;
+
+    private static final double MIN_TRIGRAM_SHARE = 0.4;
+
+    private static final int MAX_PREFIX_EXPANSION = 5000;
+
+    private final CustomerOutPort customerOutPort;
+
+    private final Timer searchTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private final NavigableMap<String, Set<String>> words = new TreeMap<>();
+
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+
+    private final NavigableMap<String, String> identifications = new TreeMap<>();
+
+    private final Set<String> writtenDuringLoad = new HashSet<>();
+
+    private boolean loading;
+
+    public CustomerSearchIndex(CustomerOutPort customerOutPort, MeterRegistry meterRegistry) {
+        this.customerOutPort = customerOutPort;
+        this.searchTimer = Timer.builder("customer.search.duration").register(meterRegistry);
+        Gauge.builder("customer.search.index.size", this, CustomerSearchIndex::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread.ofVirtual().name("customer-search-load").start(this::reload);
+    }
+
+    /**
+     * Streams every customer into the index. Customers written while the scan runs keep the written
+     * version, since the scanned row may predate it.
+     */
+    public void reload() {
+        this.withWriteLock(() -> {
+            this.loading = true;
+            this.writtenDuringLoad.clear();
+        });
+        long started = System.nanoTime();
+        try {
+            this.customerOutPort.streamAll(customer -> this.withWriteLock(() -> {
+                if (!this.writtenDuringLoad.contains(customer.getCustomerId())) {
+                    this.put(customer);
+                }
+            }));
+            log.info("Indexed {} customers for search in {} ms", this.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.warn("Could not load the customer search index: {}", ex.getMessage());
+        } finally {
+            this.withWriteLock(() -> {
+                this.loading = false;
+                this.writtenDuringLoad.clear();
+            });
+        }
+    }
+
+    public void index(Customer customer) {
+        if (customer == null || customer.getCustomerId() == null) {
+            return;
+        }
+        this.withWriteLock(() -> {
+            if (this.loading) {
+                this.writtenDuringLoad.add(customer.getCustomerId());
+            }
+            this.put(customer);
+        });
+    }
+
+    public void remove(String customerId) {
+        this.withWriteLock(() -> {
+            if (this.loading) {
+                this.writtenDuringLoad.add(customerId);
+            }
+            this.delete(customerId);
+        });
+    }
+
+    public List<Customer> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return this.searchTimer.record(() -> {
+            this.lock.readLock().lock();
+            try {
+                Map<String, Double> scores = isDigits(normalized)
+                        ? this.scoreIdentifications(normalized)
+                        : this.scoreNames(normalized);
+                return this.top(scores, limit);
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        });
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.entries.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Double> scoreIdentifications(String prefix) {
+        Map<String, Double> scores = new HashMap<>();
+        for (String customerId : this.identifications.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            if (scores.size() == MAX_PREFIX_EXPANSION) {
+                break;
+            }
+            scores.put(customerId, PREFIX_SCORE);
+        }
+        return scores;
+    }
+
+    private Map<String, Double> scoreNames(String query) {
+        Map<String, Double> scores = new HashMap<>();
+        String[] queryWords = query.split(" ");
+        for (String word : queryWords) {
+            int expanded = 0;
+            for (Set<String> ids : this.words.subMap(word, true, word + Character.MAX_VALUE, true).values()) {
+                for (String customerId : ids) {
+                    scores.merge(customerId, PREFIX_SCORE / queryWords.length, Double::sum);
+                }
+                if (++expanded == MAX_PREFIX_EXPANSION) {
+                    break;
+                }
+            }
+        }
+        Set<String> queryTrigrams = trigramsOf(query);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String customerId : this.trigrams.getOrDefault(trigram, Set.of())) {
+                shared.merge(customerId, 1, Integer::sum);
+            }
+        }
+        shared.forEach((customerId, count) -> {
+            double share = (double) count / queryTrigrams.size();
+            if (share >= MIN_TRIGRAM_SHARE || scores.containsKey(customerId)) {
+                scores.merge(customerId, share, Double::sum);
+            }
+        });
+        return scores;
+    }
+
+    private List<Customer> top(Map<String, Double> scores, int limit) {
+        Comparator<Map.Entry<String, Double>> byScore = Map.Entry.<String, Double>comparingByValue()
+                .thenComparing(candidate -> this.entries.get(candidate.getKey()).name(), Comparator.reverseOrder());
+        PriorityQueue<Map.Entry<String, Double>> best = new PriorityQueue<>(limit + 1, byScore);
+        for (Map.Entry<String, Double> candidate : scores.entrySet()) {
+            best.offer(candidate);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Customer> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            result.add(this.entries.get(best.poll().getKey()).toCustomer());
+        }
+        return result.reversed();
+    }
+
+    private void put(Customer customer) {
+        this.delete(customer.getCustomerId());
+        Entry entry = Entry.of(customer);
+        this.entries.put(entry.customerId(), entry);
+        String name = normalize(entry.name());
+        for (String word : name.split(" ")) {
+            if (!word.isEmpty()) {
+                this.words.computeIfAbsent(word, key -> new HashSet<>()).add(entry.customerId());
+            }
+        }
+        for (String trigram : trigramsOf(name)) {
+            this.trigrams.computeIfAbsent(trigram, key -> new HashSet<>()).add(entry.customerId());
+        }
+        if (entry.identification() != null) {
+            this.identifications.put(entry.identification(), entry.customerId());
+        }
+    }
+
+    private void delete(String customerId) {
+        Entry entry = this.entries.remove(customerId);
+        if (entry == null) {
+            return;
+        }
+        String name = normalize(entry.name());
+        for (String word : name.split(" ")) {
+            removePosting(this.words, word, customerId);
+        }
+        for (String trigram : trigramsOf(name)) {
+            removePosting(this.trigrams, trigram, customerId);
+        }
+        if (entry.identification() != null) {
+            this.identifications.remove(entry.identification(), customerId);
+        }
+    }
+
+    private void withWriteLock(Runnable action) {
+        this.lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private static void removePosting(Map<String, Set<String>> postings, String key, String customerId) {
+        Set<String> ids = postings.get(key);
+        if (ids != null && ids.remove(customerId) && ids.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    /** Trigrams of each word padded with spaces, so word starts and ends weigh in. */
+    private static Set<String> trigramsOf(String text) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String word : text.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                result.add(padded.substring(i, i + 3));
+            }
+        }
+        return result;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutAccents = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        return withoutAccents.toUpperCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    private static boolean isDigits(String text) {
+        return text.chars().allMatch(Character::isDigit);
+    }
+
+    private record Entry(String customerId, String personId, String name, String gender, short age,
+                         String identification, String phone, boolean status) {
+
+        static Entry of(Customer customer) {
+            return new Entry(customer.getCustomerId(), customer.getPersonId(), customer.getName(),
+                    customer.getGender(), customer.getAge(), customer.getIdentification(), customer.getPhone(),
+                    customer.isStatus());
+        }
+
+        Customer toCustomer() {
+            return Customer.builder()
+                    .customerId(this.customerId)
+                    .personId(this.personId)
+                    .name(this.name)
+                    .gender(this.gender)
+                    .age(this.age)
+                    .identification(this.identification)
+                    .phone(this.phone)
+                    .status(this.status)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.pichincha.customer.application.service;
+
+import com.pichincha.customer.application.exception.ServiceUnavailableException;
+import com.pichincha.customer.application.input.port.CustomerImportService;
+import com.pichincha.customer.application.output.port.CustomerChangeOutPort;
+import com.pichincha.customer.application.output.port.CustomerOutPort;
+import com.pichincha.customer.application.output.port.PersonOutPort;
+import com.pichincha.customer.application.search.CustomerSearchIndex;
+import com.pichincha.customer.domain.Customer;
+import com.pichincha.customer.domain.CustomerChange;
+import com.pichincha.customer.domain.CustomerImportRow;
+import com.pichincha.customer.domain.ImportResult;
+import com.pichincha.customer.domain.common.ValidationGroups;
+import com.pichincha.customer.domain.enums.ChangeType;
+import com.pichincha.customer.domain.enums.ImportStatus;
+import com.pichincha.customer.infrastructure.input.adapter.rest.bean.PooledPasswordEncoder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk onboarding. Rows are taken from the iterator in batches of {@code customer.import.batch-size};
+ * each batch is validated, checked for existing identifications with one {@code IN} query, hashed on
+ * the password pool at most {@code customer.import.hashing-window} passwords at a time, and inserted
+ * with JDBC batches in one transaction. A result is reported for every row, in line order per batch.
+ */
+@Service
+@Slf4j
+public class CustomerImportUseCase implements CustomerImportService {
+
+    private final CustomerOutPort customerOutPort;
+
+    private final PersonOutPort personOutPort;
+
+    private final CustomerChangeOutPort customerChangeOutPort;
+
+    private final PooledPasswordEncoder passwordEncoder;
+
+    private final Validator validator;
+
+    private final CustomerSearchIndex customerSearchIndex;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final int hashingWindow;
+
+    public CustomerImportUseCase(CustomerOutPort customerOutPort,
+                                 PersonOutPort personOutPort,
+                                 CustomerChangeOutPort customerChangeOutPort,
+                                 PooledPasswordEncoder passwordEncoder,
+                                 Validator validator,
+                                 CustomerSearchIndex customerSearchIndex,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${customer.import.batch-size:500}") int batchSize,
+                                 @Value("${customer.import.hashing-window:64}") int hashingWindow) {
+        this.customerOutPort = customerOutPort;
+        this.personOutPort = personOutPort;
+        this.customerChangeOutPort = customerChangeOutPort;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.customerSearchIndex = customerSearchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.hashingWindow = hashingWindow;
+    }
+
+    @Override
+    public void importCustomers(Iterator<CustomerImportRow> rows, Consumer<ImportResult> results) {
+        List<CustomerImportRow> batch = new ArrayList<>(this.batchSize);
+        while (rows.hasNext()) {
+            batch.add(rows.next());
+            if (batch.size() == this.batchSize) {
+                this.importBatch(batch).forEach(results);
+                batch = new ArrayList<>(this.batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            this.importBatch(batch).forEach(results);
+        }
+    }
+
+    private List<ImportResult> importBatch(List<CustomerImportRow> batch) {
+        List<ImportResult> results = new ArrayList<>(batch.size());
+        List<CustomerImportRow> accepted = new ArrayList<>(batch.size());
+        Set<String> identifications = new HashSet<>();
+        for (CustomerImportRow row : batch) {
+            String error = row.getError() != null ? row.getError() : this.validate(row.getCustomer());
+            if (error == null && !identifications.add(row.getCustomer().getIdentification())) {
+                error = "The identification is repeated in the import";
+            }
+            if (error == null) {
+                accepted.add(row);
+            } else {
+                results.add(rejected(row, error));
+            }
+        }
+
+        Set<String> existing = accepted.isEmpty() ? Set.of() : this.personOutPort.findExistingIdentifications(
+                accepted.stream().map(row -> row.getCustomer().getIdentification()).toList());
+        List<CustomerImportRow> toHash = new ArrayList<>(accepted.size());
+        for (CustomerImportRow row : accepted) {
+            if (existing.contains(row.getCustomer().getIdentification())) {
+                results.add(rejected(row, "The identification is already registered"));
+            } else {
+                toHash.add(row);
+            }
+        }
+
+        List<CustomerImportRow> toInsert = this.hashPasswords(toHash, results);
+        this.insert(toInsert, results);
+        results.sort(Comparator.comparingLong(ImportResult::getLine));
+        return results;
+    }
+
+    private String validate(Customer customer) {
+        if (customer == null) {
+            return "The row is empty";
+        }
+        Set<ConstraintViolation<Customer>> violations = this.validator.validate(customer, ValidationGroups.Create.class);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private List<CustomerImportRow> hashPasswords(List<CustomerImportRow> rows, List<ImportResult> results) {
+        List<CustomerImportRow> hashed = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += this.hashingWindow) {
+            List<CustomerImportRow> window = rows.subList(from, Math.min(from + this.hashingWindow, rows.size()));
+            List<CompletableFuture<String>> hashes = new ArrayList<>(window.size());
+            for (CustomerImportRow row : window) {
+                hashes.add(this.submitHash(row.getCustomer().getPassword(), hashes));
+            }
+            for (int i = 0; i < window.size(); i++) {
+                CustomerImportRow row = window.get(i);
+                CompletableFuture<String> hash = hashes.get(i);
+                try {
+                    if (hash == null) {
+                        results.add(rejected(row, "Password hashing capacity exhausted"));
+                        continue;
+                    }
+                    row.getCustomer().setPassword(hash.join());
+                    hashed.add(row);
+                } catch (CompletionException ex) {
+                    log.error("Error hashing password for import line {}", row.getLine(), ex.getCause());
+                    results.add(rejected(row, "Error hashing password"));
+                }
+            }
+        }
+        return hashed;
+    }
+
+    /**
+     * Submits one hash; when the pool's queue is full, waits for this window's earlier hashes to drain
+     * and tries once more. Returns {@code null} if the pool is still saturated by other requests.
+     */
+    private CompletableFuture<String> submitHash(String rawPassword, List<CompletableFuture<String>> submitted) {
+        try {
+            return this.passwordEncoder.encodeAsync(rawPassword);
+        } catch (ServiceUnavailableException ex) {
+            submitted.stream()
+                    .filter(Objects::nonNull)
+                    .forEach(future -> future.handle((hash, error) -> null).join());
+            try {
+                return this.passwordEncoder.encodeAsync(rawPassword);
+            } catch (ServiceUnavailableException retry) {
+                return null;
+            }
+        }
+    }
+
+    private void insert(List<CustomerImportRow> rows, List<ImportResult> results) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            this.insertInTransaction(rows);
+            rows.forEach(row -> results.add(created(row)));
+        } catch (RuntimeException batchError) {
+            log.warn("Import batch of {} rows failed, retrying row by row: {}", rows.size(), batchError.getMessage());
+            for (CustomerImportRow row : rows) {
+                row.getCustomer().setPersonId(null);
+                row.getCustomer().setCustomerId(null);
+                try {
+                    this.insertInTransaction(List.of(row));
+                    results.add(created(row));
+                } catch (RuntimeException rowError) {
+                    results.add(rejected(row, "The customer could not be saved"));
+                }
+            }
+        }
+    }
+
+    private void insertInTransaction(List<CustomerImportRow> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Customer> customers = new ArrayList<>(rows.size());
+        for (CustomerImportRow row : rows) {
+            Customer customer = row.getCustomer();
+            customer.setName(customer.getName().toUpperCase());
+            customer.setStatus(Boolean.TRUE);
+            customers.add(customer);
+        }
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.customerOutPort.insertAll(customers);
+            this.customerChangeOutPort.saveAll(customers.stream()
+                    .map(customer -> CustomerChange.builder()
+                            .customerId(customer.getCustomerId())
+                            .status(customer.isStatus())
+                            .changeType(ChangeType.CREATED)
+                            .changedAt(now)
+                            .build())
+                    .toList());
+        });
+        customers.forEach(this.customerSearchIndex::index);
+    }
+
+    private static ImportResult created(CustomerImportRow row) {
+        return ImportResult.builder()
+                .line(row.getLine())
+                .status(ImportStatus.CREATED)
+                .customerId(row.getCustomer().getCustomerId())
+                .identification(row.getCustomer().getIdentification())
+                .build();
+    }
+
+    private static ImportResult rejected(CustomerImportRow row, String error) {
+        return ImportResult.builder()
+                .line(row.getLine())
+                .status(ImportStatus.REJECTED)
+                .identification(row.getCustomer() == null ? null : row.getCustomer().getIdentification())
+                .error(error)
+                .build();
+    }
+}
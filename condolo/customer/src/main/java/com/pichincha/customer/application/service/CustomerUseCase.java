@@ -1,12 +1,19 @@
 package com.pichincha.customer.application.service;
 
 import com.pichincha.customer.application.exception.ResourceNotFoundException;
+import com.pichincha.customer.application.exception.ServiceUnavailableException;
 import com.pichincha.customer.application.exception.SystemException;
 import com.pichincha.customer.application.input.port.CustomerService;
 import com.pichincha.customer.application.input.port.PersonService;
 import com.pichincha.customer.application.mapper.NewCustomerMapper;
+import com.pichincha.customer.application.output.port.CustomerChangeOutPort;
 import com.pichincha.customer.application.output.port.CustomerOutPort;
+import com.pichincha.customer.application.pagination.CursorCodec;
+import com.pichincha.customer.application.search.CustomerSearchIndex;
 import com.pichincha.customer.domain.Customer;
+import com.pichincha.customer.domain.CursorPage;
+import com.pichincha.customer.domain.CustomerChange;
+import com.pichincha.customer.domain.enums.ChangeType;
 import com.pichincha.customer.application.exception.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,20 +22,39 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CustomerUseCase implements CustomerService {
 
+    private static final int MAX_LOOKUP_IDS = 500;
+
+    private static final Duration CHANGE_FEED_SETTLE_DELAY = Duration.ofSeconds(2);
+
     private final CustomerOutPort customerOutPort;
 
+    private final CustomerChangeOutPort customerChangeOutPort;
+
     private final  PersonService personService;
 
     private final NewCustomerMapper customerMapper;
 
     private final PasswordEncoder passwordEncoder;
 
+    private final CustomerSearchIndex customerSearchIndex;
+
     @Override
     @Transactional
     public Customer create(Customer customer) {
@@ -41,8 +67,11 @@ public class CustomerUseCase implements CustomerService {
             customer.setName(customer.getName().toUpperCase());
             customer.setPassword(passwordEncoder.encode(customer.getPassword()));
             customer.setStatus(Boolean.TRUE);
-            return customerOutPort.save(customer);
-        } catch (ValidationException e) {
+            Customer created = customerOutPort.save(customer);
+            this.recordChange(created, ChangeType.CREATED);
+            this.indexAfterCommit(created);
+            return created;
+        } catch (ValidationException | ServiceUnavailableException e) {
             throw e;
         } catch (NullPointerException e) {
             log.error("Null value in required field", e);
@@ -61,7 +90,7 @@ public class CustomerUseCase implements CustomerService {
         }
         
         try {
-            Customer customerSearch = this.findById(customer.getPersonId());
+            Customer customerSearch = customerOutPort.findByCustomerId(customer.getPersonId());
             String customerId = customerSearch.getCustomerId();
             String previousIdentification = customerSearch.getIdentification();
             
@@ -69,7 +98,10 @@ public class CustomerUseCase implements CustomerService {
             this.validateIdentification(customerSearch, previousIdentification);
             
             customerSearch.setCustomerId(customerId);
-            return customerOutPort.save(customerSearch);
+            Customer updated = customerOutPort.save(customerSearch);
+            this.recordChange(updated, ChangeType.UPDATED);
+            this.indexAfterCommit(updated);
+            return updated;
         } catch (ResourceNotFoundException | ValidationException e) {
             throw e;
         } catch (Exception e) {
@@ -83,11 +115,42 @@ public class CustomerUseCase implements CustomerService {
         return customerOutPort.findAll(pageable);
     }
 
+    @Override
+    public CursorPage<Customer> findAllAfter(String after, int size, boolean includeTotal) {
+        String afterId = after == null ? null : CursorCodec.decode(after, 1)[0];
+        List<Customer> rows = customerOutPort.findPage(afterId, size + 1);
+        return CursorCodec.toPage(rows, size, last -> CursorCodec.encode(last.getPersonId()),
+                includeTotal ? customerOutPort.count() : null);
+    }
+
     @Override
     public Customer findById(String id) {
         return customerOutPort.findById(id);
     }
 
+    @Override
+    public Map<String, Customer> findByIds(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        Set<String> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > MAX_LOOKUP_IDS) {
+            throw new ValidationException("A lookup accepts at most " + MAX_LOOKUP_IDS + " customer ids");
+        }
+        return customerOutPort.findByCustomerIds(distinctIds).stream()
+                .collect(Collectors.toMap(Customer::getCustomerId, Function.identity()));
+    }
+
+    @Override
+    public List<Customer> search(String query, int limit) {
+        return customerSearchIndex.search(query, limit);
+    }
+
+    @Override
+    public List<CustomerChange> findChanges(long since, int limit) {
+        return customerChangeOutPort.findAfter(since, LocalDateTime.now().minus(CHANGE_FEED_SETTLE_DELAY), limit);
+    }
+
     @Override
     @Transactional
     public void delete(String customerId) {
@@ -99,6 +162,8 @@ public class CustomerUseCase implements CustomerService {
             Customer customer = customerOutPort.findByCustomerId(customerId);
             customer.setStatus(Boolean.FALSE);
             customerOutPort.save(customer);
+            this.recordChange(customer, ChangeType.DELETED);
+            this.indexAfterCommit(customer);
             
             log.info("Customer soft deleted successfully: {}", customerId);
         } catch (ResourceNotFoundException e) {
@@ -116,14 +181,34 @@ public class CustomerUseCase implements CustomerService {
     }
 
     private boolean isUniqueIdentification(String identification, String identificationUpdate) {
-        try {
-            this.personService.findByIdentification(identification, identificationUpdate);
-            return Boolean.FALSE;
-        } catch (ResourceNotFoundException e) {
-            return Boolean.TRUE;
-        } catch (Exception e) {
-            log.error("Unexpected error validating identification: {}", identification, e);
-            throw new SystemException("Error validating identification", e);
+        return !this.personService.existsByIdentification(identification, identificationUpdate);
+    }
+
+    private void indexAfterCommit(Customer customer) {
+        if (customer == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            customerSearchIndex.index(customer);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                customerSearchIndex.index(customer);
+            }
+        });
+    }
+
+    private void recordChange(Customer customer, ChangeType changeType) {
+        if (customer == null) {
+            return;
         }
+        customerChangeOutPort.save(CustomerChange.builder()
+                .customerId(customer.getCustomerId())
+                .status(customer.isStatus())
+                .changeType(changeType)
+                .changedAt(LocalDateTime.now())
+                .build());
     }
 }
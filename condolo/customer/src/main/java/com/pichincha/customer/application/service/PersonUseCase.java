@@ -9,10 +9,12 @@ import com.pichincha.customer.application.exception.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collection;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -63,8 +65,13 @@ public class PersonUseCase implements PersonService {
     }
 
     @Override
-    public Collection<Person> findAll() {
-        return personOutPort.findAll();
+    public Page<Person> findAll(Pageable pageable) {
+        return personOutPort.findAll(pageable);
+    }
+
+    @Override
+    public void streamAll(Consumer<Person> consumer) {
+        personOutPort.streamAll(consumer);
     }
 
     @Override
@@ -95,10 +102,13 @@ public class PersonUseCase implements PersonService {
         return  personOutPort.findByIdentification(identification, identificationUpdated);
     }
 
+    @Override
+    public boolean existsByIdentification(String identification, String identificationUpdated) {
+        return personOutPort.existsByIdentification(identification, identificationUpdated);
+    }
+
     private void validateUniqueIdentification(String identification, String identificationUpdated) {
-        Person existingPerson = personOutPort.findByIdentification(
-                identification, identificationUpdated);
-        if (existingPerson != null) {
+        if (personOutPort.existsByIdentification(identification, identificationUpdated)) {
             throw new ValidationException("The identification is already in use.");
         }
     }
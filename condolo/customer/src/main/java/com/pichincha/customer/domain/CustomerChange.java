@@ -0,0 +1,26 @@
+package com.pichincha.customer.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pichincha.customer.domain.enums.ChangeType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CustomerChange {
+
+    private Long changeId;
+
+    private String customerId;
+
+    private boolean status;
+
+    private ChangeType changeType;
+
+    private LocalDateTime changedAt;
+}
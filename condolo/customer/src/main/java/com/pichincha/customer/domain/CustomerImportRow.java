@@ -0,0 +1,20 @@
+package com.pichincha.customer.domain;
+
+import lombok.*;
+
+/**
+ * One parsed line of an import file: either a customer or the reason the line could not be read.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CustomerImportRow {
+
+    private long line;
+
+    private Customer customer;
+
+    private String error;
+}
@@ -0,0 +1,24 @@
+package com.pichincha.customer.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pichincha.customer.domain.enums.ImportStatus;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportResult {
+
+    private long line;
+
+    private ImportStatus status;
+
+    private String customerId;
+
+    private String identification;
+
+    private String error;
+}
@@ -0,0 +1,7 @@
+package com.pichincha.customer.domain.enums;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,6 @@
+package com.pichincha.customer.domain.enums;
+
+public enum ImportStatus {
+    CREATED,
+    REJECTED
+}
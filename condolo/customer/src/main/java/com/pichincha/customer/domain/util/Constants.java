@@ -30,6 +30,10 @@ public class Constants {
     public static final String CATALOG_DATABASE_ERROR = "Database Error";
     public static final String DATABASE_ERROR = "Error en la base de datos";
 
+    public static final String CODIGO_ERROR_07 = "007";
+    public static final String CATALOG_SERVICE_UNAVAILABLE = "Service Unavailable";
+    public static final String SERVICE_UNAVAILABLE = "El servicio está saturado. Intente mas tarde";
+
     public static final String CODIGO_ERROR_100 = "100";
     public static final String CATALOG_NAME_NULL_OR_EMPTY = "Bad Request";
     public static final String NAME_NULL_OR_EMPTY = "El nombre es nulo o vacío";
@@ -115,6 +119,7 @@ public class Constants {
     public static final String DATABASE_EXCEPTION = "DatabaseException";
     public static final String DATA_ACCESS_EXCEPTION = "DataAccessException";
     public static final String NOT_FOUND_EXCEPTION = "ResourceNotFoundException";
+    public static final String SERVICE_UNAVAILABLE_EXCEPTION = "ServiceUnavailableException";
     public static final String INSTANCE = "0188";
 
 
@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.pichincha.customer.application.exception.DatabaseException;
 import com.pichincha.customer.application.exception.ResourceNotFoundException;
+import com.pichincha.customer.application.exception.ServiceUnavailableException;
 import com.pichincha.customer.application.exception.SystemException;
 import com.pichincha.customer.application.exception.ValidationException;
 import com.pichincha.customer.domain.error.CustomErrorResponse;
@@ -153,6 +154,24 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Object> serviceUnavailableHandling(ServiceUnavailableException exception, WebRequest request){
+        log.warn("Request rejected: {}", exception.getMessage());
+
+        CustomErrorResponse errorResponse = CustomErrorResponse.builder()
+                .title(Constants.CATALOG_SERVICE_UNAVAILABLE)
+                .detail(exception.getMessage())
+                .errors(List.of(createErrorDetail(Constants.CODIGO_ERROR_07, Constants.CATALOG_SERVICE_UNAVAILABLE, Constants.SERVICE_UNAVAILABLE)))
+                .instance(Constants.CODIGO_ERROR_07)
+                .type(extractPath(request))
+                .resource(Constants.SERVICE_UNAVAILABLE_EXCEPTION)
+                .component(COMPONENT)
+                .backend(BACKEND)
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(DataAccessException.class)
     public ResponseEntity<Object> dataAccessExceptionHandling(DataAccessException exception, WebRequest request){
         log.error("Data access error", exception);
@@ -1,14 +1,33 @@
 package com.pichincha.customer.infrastructure.input.adapter.rest.bean;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
 public class Encoder {
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+
+    private static final String BCRYPT_ID = "bcrypt";
+
+    @Bean(destroyMethod = "shutdown")
+    public PooledPasswordEncoder passwordEncoder(
+            @Value("${customer.password.bcrypt-strength:10}") int strength,
+            @Value("${customer.password.hashing.threads:0}") int threads,
+            @Value("${customer.password.hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${customer.password.hashing.timeout:PT10S}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(
+                BCRYPT_ID, Map.of(BCRYPT_ID, new BCryptPasswordEncoder(strength)));
+        // Hashes stored before the {id} prefix existed are plain BCrypt.
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new PooledPasswordEncoder(delegating, poolSize, queueCapacity, timeout, meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package com.pichincha.customer.infrastructure.input.adapter.rest.bean;
+
+import com.pichincha.customer.application.exception.ServiceUnavailableException;
+import com.pichincha.customer.application.exception.SystemException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs password hashing and matching on a fixed-size CPU pool with a bounded queue, so slow hashes
+ * never occupy servlet threads beyond the wait and overload is rejected instead of queued forever.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration timeout;
+
+    private final Timer hashTimer;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.hashTimer = Timer.builder("customer.password.hashing.duration")
+                .register(meterRegistry);
+        Gauge.builder("customer.password.hashing.queue.depth", this.executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("customer.password.hashing.active", this.executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("customer.password.hashing.completed", this.executor,
+                        ThreadPoolExecutor::getCompletedTaskCount)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> this.hashTimer.record(() -> this.delegate.encode(rawPassword)), this.executor);
+        } catch (RejectedExecutionException ex) {
+            throw new ServiceUnavailableException("Password hashing capacity exhausted");
+        }
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return this.await(this.encodeAsync(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try {
+            return this.await(CompletableFuture.supplyAsync(
+                    () -> this.delegate.matches(rawPassword, encodedPassword), this.executor));
+        } catch (RejectedExecutionException ex) {
+            throw new ServiceUnavailableException("Password hashing capacity exhausted");
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return this.delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SystemException("Interrupted while hashing password", ex);
+        } catch (TimeoutException ex) {
+            future.cancel(false);
+            throw new ServiceUnavailableException("Password hashing timed out");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new SystemException("Error hashing password", ex.getCause());
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.pichincha.customer.infrastructure.input.adapter.rest.impl;
 import com.pichincha.customer.application.exception.ValidationException;
 import com.pichincha.customer.application.input.port.CustomerService;
 import com.pichincha.customer.domain.Customer;
+import com.pichincha.customer.domain.CursorPage;
+import com.pichincha.customer.domain.CustomerChange;
 import com.pichincha.customer.domain.common.ValidationGroups;
 import com.pichincha.customer.domain.util.Constants;
 import jakarta.validation.constraints.Max;
@@ -14,6 +16,8 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -36,6 +40,34 @@ public class CustomerController {
         return this.customerService.findAll(PageRequest.of(page, size));
     }
 
+    @GetMapping("/cursor")
+    public CursorPage<Customer> findAllAfter(@RequestParam(required = false) String after,
+                                             @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+                                             @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPage<Customer> page = this.customerService.findAllAfter(after, size, includeTotal);
+        page.getContent().forEach(customer -> customer.setPassword(null));
+        return page;
+    }
+
+    @PostMapping("/lookup")
+    public Map<String, Customer> findByIds(@RequestBody List<String> customerIds) {
+        Map<String, Customer> customers = this.customerService.findByIds(customerIds);
+        customers.values().forEach(customer -> customer.setPassword(null));
+        return customers;
+    }
+
+    @GetMapping("/search")
+    public List<Customer> search(@RequestParam("q") String query,
+                                 @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        return this.customerService.search(query, limit);
+    }
+
+    @GetMapping("/changes")
+    public List<CustomerChange> findChanges(@RequestParam(defaultValue = "0") @Min(0) long since,
+                                            @RequestParam(defaultValue = "500") @Min(1) @Max(1000) int limit) {
+        return this.customerService.findChanges(since, limit);
+    }
+
     @GetMapping("/{customerId}")
     public Customer findById(@PathVariable("customerId") String id){
         validateCustomerId(id);
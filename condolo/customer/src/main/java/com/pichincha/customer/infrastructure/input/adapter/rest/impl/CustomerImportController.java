@@ -0,0 +1,64 @@
+package com.pichincha.customer.infrastructure.input.adapter.rest.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.customer.application.input.port.CustomerImportService;
+import com.pichincha.customer.domain.CustomerImportRow;
+import com.pichincha.customer.infrastructure.input.adapter.rest.parser.CustomerImportReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+@RestController
+@RequestMapping("v1/customers")
+@RequiredArgsConstructor
+public class CustomerImportController {
+
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private static final String CSV_VALUE = "text/csv";
+
+    private final CustomerImportService customerImportService;
+
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/import", consumes = CSV_VALUE, produces = NDJSON_VALUE)
+    public StreamingResponseBody importCsv(InputStream body) {
+        CustomerImportReader rows = CustomerImportReader.csv(body);
+        return outputStream -> importRows(rows, outputStream);
+    }
+
+    @PostMapping(value = "/import", consumes = NDJSON_VALUE, produces = NDJSON_VALUE)
+    public StreamingResponseBody importNdjson(InputStream body) {
+        CustomerImportReader rows = CustomerImportReader.ndjson(body, objectMapper);
+        return outputStream -> importRows(rows, outputStream);
+    }
+
+    private void importRows(Iterator<CustomerImportRow> rows, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            customerImportService.importCustomers(rows, result -> {
+                try {
+                    writer.write(objectMapper.writeValueAsString(result));
+                    writer.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+}
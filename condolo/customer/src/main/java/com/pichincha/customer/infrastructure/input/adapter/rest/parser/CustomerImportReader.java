@@ -0,0 +1,176 @@
+package com.pichincha.customer.infrastructure.input.adapter.rest.parser;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.customer.application.exception.ValidationException;
+import com.pichincha.customer.domain.Customer;
+import com.pichincha.customer.domain.CustomerImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+/**
+ * Reads an import body one line at a time, so only the current line is held in memory. Blank lines
+ * are skipped; a line that cannot be read becomes a row carrying the error instead of a customer.
+ */
+public class CustomerImportReader implements Iterator<CustomerImportRow> {
+
+    private static final List<String> CSV_COLUMNS =
+            List.of("name", "gender", "age", "identification", "address", "phone", "password");
+
+    private final BufferedReader reader;
+
+    private final BiFunction<Long, String, CustomerImportRow> lineParser;
+
+    private long lineNumber;
+
+    private CustomerImportRow next;
+
+    private CustomerImportReader(BufferedReader reader, long lineNumber,
+                                 BiFunction<Long, String, CustomerImportRow> lineParser) {
+        this.reader = reader;
+        this.lineNumber = lineNumber;
+        this.lineParser = lineParser;
+    }
+
+    /**
+     * CSV with a header row naming at least the columns name, gender, age, identification, address,
+     * phone and password, in any order. Quoted fields may contain commas and doubled quotes but not
+     * line breaks.
+     */
+    public static CustomerImportReader csv(InputStream body) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String header = readLine(reader);
+        if (header == null) {
+            throw new ValidationException("The import file is empty");
+        }
+        List<String> columns = splitCsv(stripBom(header)).stream()
+                .map(column -> column.trim().toLowerCase())
+                .toList();
+        Map<String, Integer> positions = new HashMap<>();
+        for (String column : CSV_COLUMNS) {
+            int position = columns.indexOf(column);
+            if (position < 0) {
+                throw new ValidationException("The import header must contain the column " + column);
+            }
+            positions.put(column, position);
+        }
+        return new CustomerImportReader(reader, 1, (line, text) -> parseCsv(line, text, positions));
+    }
+
+    public static CustomerImportReader ndjson(InputStream body, ObjectMapper objectMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return new CustomerImportReader(reader, 0, (line, text) -> {
+            try {
+                return CustomerImportRow.builder()
+                        .line(line)
+                        .customer(objectMapper.readValue(text, Customer.class))
+                        .build();
+            } catch (JsonProcessingException ex) {
+                return CustomerImportRow.builder().line(line).error("The line is not a valid customer JSON").build();
+            }
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.next != null) {
+            return true;
+        }
+        String text;
+        do {
+            text = readLine(this.reader);
+            if (text == null) {
+                return false;
+            }
+            this.lineNumber++;
+        } while (text.isBlank());
+        this.next = this.lineParser.apply(this.lineNumber, text);
+        return true;
+    }
+
+    @Override
+    public CustomerImportRow next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CustomerImportRow row = this.next;
+        this.next = null;
+        return row;
+    }
+
+    private static CustomerImportRow parseCsv(long line, String text, Map<String, Integer> positions) {
+        List<String> fields = splitCsv(text);
+        if (fields.size() <= positions.values().stream().mapToInt(Integer::intValue).max().orElse(0)) {
+            return CustomerImportRow.builder().line(line).error("The line has fewer columns than the header").build();
+        }
+        String age = fields.get(positions.get("age")).trim();
+        short parsedAge;
+        try {
+            parsedAge = age.isEmpty() ? 0 : Short.parseShort(age);
+        } catch (NumberFormatException ex) {
+            return CustomerImportRow.builder().line(line).error("age: must be a number").build();
+        }
+        Customer customer = Customer.builder()
+                .name(fields.get(positions.get("name")).trim())
+                .gender(fields.get(positions.get("gender")).trim())
+                .age(parsedAge)
+                .identification(fields.get(positions.get("identification")).trim())
+                .address(fields.get(positions.get("address")).trim())
+                .phone(fields.get(positions.get("phone")).trim())
+                .password(fields.get(positions.get("password")))
+                .build();
+        return CustomerImportRow.builder().line(line).customer(customer).build();
+    }
+
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String stripBom(String text) {
+        return !text.isEmpty() && text.charAt(0) == '\uFEFF' ? text.substring(1) : text;
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
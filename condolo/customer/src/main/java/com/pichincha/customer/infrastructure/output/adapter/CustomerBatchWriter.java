@@ -0,0 +1,81 @@
+package com.pichincha.customer.infrastructure.output.adapter;
+
+import com.pichincha.customer.domain.Customer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Inserts new customers with JDBC batches instead of one persist per entity. Ids are assigned here
+ * because {@code @UuidGenerator} only runs on the JPA path. The statements follow the table layout in
+ * use: {@code persons} + {@code customers}, or {@code persons} alone with the single-table profile.
+ */
+@Component
+public class CustomerBatchWriter {
+
+    private static final String INSERT_PERSON = "INSERT INTO persons " +
+            "(person_id, name, gender, age, identification, address, phone) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CUSTOMER = "INSERT INTO customers " +
+            "(person_id, customer_id, password, status) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_SINGLE_TABLE = "INSERT INTO persons " +
+            "(person_id, name, gender, age, identification, address, phone, person_type, customer_id, " +
+            "password, status) VALUES (?, ?, ?, ?, ?, ?, ?, 'CUSTOMER', ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean singleTable;
+
+    private final int batchSize;
+
+    public CustomerBatchWriter(JdbcTemplate jdbcTemplate,
+                               @Value("${customer.storage.single-table:false}") boolean singleTable,
+                               @Value("${customer.import.jdbc-batch-size:100}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.singleTable = singleTable;
+        this.batchSize = batchSize;
+    }
+
+    public void insertAll(List<Customer> customers) {
+        for (Customer customer : customers) {
+            if (customer.getPersonId() == null) {
+                customer.setPersonId(UUID.randomUUID().toString());
+            }
+            if (customer.getCustomerId() == null) {
+                customer.setCustomerId(UUID.randomUUID().toString());
+            }
+        }
+        if (this.singleTable) {
+            this.jdbcTemplate.batchUpdate(INSERT_SINGLE_TABLE, customers, this.batchSize, (ps, customer) -> {
+                setPersonColumns(ps, customer);
+                ps.setString(8, customer.getCustomerId());
+                ps.setString(9, customer.getPassword());
+                ps.setBoolean(10, customer.isStatus());
+            });
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(INSERT_PERSON, customers, this.batchSize, CustomerBatchWriter::setPersonColumns);
+        this.jdbcTemplate.batchUpdate(INSERT_CUSTOMER, customers, this.batchSize, (ps, customer) -> {
+            ps.setString(1, customer.getPersonId());
+            ps.setString(2, customer.getCustomerId());
+            ps.setString(3, customer.getPassword());
+            ps.setBoolean(4, customer.isStatus());
+        });
+    }
+
+    private static void setPersonColumns(PreparedStatement ps, Customer customer) throws SQLException {
+        ps.setString(1, customer.getPersonId());
+        ps.setString(2, customer.getName());
+        ps.setString(3, customer.getGender());
+        ps.setShort(4, customer.getAge());
+        ps.setString(5, customer.getIdentification());
+        ps.setString(6, customer.getAddress());
+        ps.setString(7, customer.getPhone());
+    }
+}
@@ -0,0 +1,73 @@
+package com.pichincha.customer.infrastructure.output.adapter;
+
+import com.pichincha.customer.application.exception.DatabaseException;
+import com.pichincha.customer.application.output.port.CustomerChangeOutPort;
+import com.pichincha.customer.domain.CustomerChange;
+import com.pichincha.customer.infrastructure.output.repository.CustomerChangeRepository;
+import com.pichincha.customer.infrastructure.output.repository.mapper.CustomerChangeMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerChangeOutAdapter implements CustomerChangeOutPort {
+
+    private static final String INSERT_CHANGE = "INSERT INTO customer_changes " +
+            "(customer_id, status, change_type, changed_at) VALUES (?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 100;
+
+    private final CustomerChangeMapper customerChangeMapper;
+
+    private final CustomerChangeRepository customerChangeRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public CustomerChange save(CustomerChange change) {
+        try {
+            return customerChangeMapper.convertToDomain(
+                    customerChangeRepository.save(customerChangeMapper.convertToEntity(change)));
+        } catch (DataAccessException e) {
+            log.error("Database error while saving customer change", e);
+            throw new DatabaseException("Error saving customer change: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void saveAll(List<CustomerChange> changes) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_CHANGE, changes, BATCH_SIZE, (ps, change) -> {
+                ps.setString(1, change.getCustomerId());
+                ps.setBoolean(2, change.isStatus());
+                ps.setString(3, change.getChangeType().name());
+                ps.setTimestamp(4, Timestamp.valueOf(change.getChangedAt()));
+            });
+        } catch (DataAccessException e) {
+            log.error("Database error while saving {} customer changes", changes.size(), e);
+            throw new DatabaseException("Error saving customer changes: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<CustomerChange> findAfter(long changeId, LocalDateTime changedBefore, int limit) {
+        try {
+            return customerChangeRepository.findByChangeIdGreaterThanAndChangedAtBeforeOrderByChangeId(
+                            changeId, changedBefore, PageRequest.of(0, limit)).stream()
+                    .map(customerChangeMapper::convertToDomain)
+                    .toList();
+        } catch (DataAccessException e) {
+            log.error("Database error while reading customer changes", e);
+            throw new DatabaseException("Error retrieving customer changes: " + e.getMessage(), e);
+        }
+    }
+}
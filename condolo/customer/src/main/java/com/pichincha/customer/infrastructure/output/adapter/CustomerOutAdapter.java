@@ -1,17 +1,28 @@
 package com.pichincha.customer.infrastructure.output.adapter;
 
+import com.pichincha.customer.application.cache.UniquenessFilter;
 import com.pichincha.customer.application.exception.DatabaseException;
 import com.pichincha.customer.application.output.port.CustomerOutPort;
 import com.pichincha.customer.domain.Customer;
 import com.pichincha.customer.application.exception.ResourceNotFoundException;
+import com.pichincha.customer.application.exception.ValidationException;
 import com.pichincha.customer.infrastructure.output.repository.CustomerRepository;
 import com.pichincha.customer.infrastructure.output.repository.mapper.CustomerMapper;
+import com.pichincha.customer.infrastructure.output.repository.projection.CustomerSummaryView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -22,13 +33,29 @@ public class CustomerOutAdapter implements CustomerOutPort {
 
     private final CustomerRepository customerRepository;
 
+    private final IdentificationFilter identificationFilter;
+
+    private final CustomerBatchWriter customerBatchWriter;
+
     @Override
     public Customer save(Customer customer) {
         try {
             com.pichincha.customer.infrastructure.output.repository.entity.Customer c = customerMapper.convertToEntity(customer);
-            return customerMapper.convertToDomain(
-                    customerRepository.save(c)
+            if (c.getCustomerId() == null) {
+                c.setCustomerId(UUID.randomUUID().toString());
+            }
+            Customer saved = customerMapper.convertToDomain(
+                    customerRepository.saveAndFlush(c)
             );
+            identificationFilter.put(saved.getIdentification());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (!UniquenessFilter.isDuplicate(e, "identification")) {
+                log.error("Database error while saving customer", e);
+                throw new DatabaseException("Error saving customer: " + e.getMessage(), e);
+            }
+            identificationFilter.put(customer.getIdentification());
+            throw new ValidationException("The identification is already registered");
         } catch (DataAccessException e) {
             log.error("Database error while saving customer", e);
             throw new DatabaseException("Error saving customer: " + e.getMessage(), e);
@@ -37,7 +64,7 @@ public class CustomerOutAdapter implements CustomerOutPort {
     @Override
     public Page<Customer> findAll(Pageable pageable) {
         try {
-            return customerRepository.findAll(pageable)
+            return customerRepository.findSummaries(pageable)
                     .map(customerMapper::convertToDomain);
         } catch (DataAccessException e) {
             log.error("Database error while finding all customers", e);
@@ -45,11 +72,48 @@ public class CustomerOutAdapter implements CustomerOutPort {
         }
     }
 
+    @Override
+    public List<Customer> findPage(String afterId, int limit) {
+        try {
+            Pageable firstRows = PageRequest.of(0, limit);
+            List<CustomerSummaryView> rows = afterId == null
+                    ? customerRepository.findFirstPage(firstRows)
+                    : customerRepository.findPageAfter(afterId, firstRows);
+            return rows.stream()
+                    .map(customerMapper::convertToDomain)
+                    .toList();
+        } catch (DataAccessException e) {
+            log.error("Database error while finding customers page", e);
+            throw new DatabaseException("Error retrieving customers: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Customer> consumer) {
+        try (var rows = customerRepository.streamSummaries()) {
+            rows.forEach(row -> consumer.accept(customerMapper.convertToDomain(row)));
+        } catch (DataAccessException e) {
+            log.error("Database error while streaming customers", e);
+            throw new DatabaseException("Error retrieving customers: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public long count() {
+        try {
+            return customerRepository.count();
+        } catch (DataAccessException e) {
+            log.error("Database error while counting customers", e);
+            throw new DatabaseException("Error counting customers: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public Customer findById(String id) {
         try {
             return customerMapper.convertToDomain(
-                    customerRepository.findByCustomerId(id)
+                    customerRepository.findDetailByCustomerId(id)
                             .orElseThrow(() -> new ResourceNotFoundException("Customer not found with id: " + id)
             ));
         } catch (ResourceNotFoundException e) {
@@ -60,6 +124,29 @@ public class CustomerOutAdapter implements CustomerOutPort {
         }
     }
 
+    @Override
+    public List<Customer> findByCustomerIds(Collection<String> customerIds) {
+        try {
+            return customerRepository.findSummariesByCustomerIdIn(customerIds).stream()
+                    .map(customerMapper::convertToDomain)
+                    .toList();
+        } catch (DataAccessException e) {
+            log.error("Database error while finding customers by ids", e);
+            throw new DatabaseException("Error retrieving customers: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void insertAll(List<Customer> customers) {
+        try {
+            customerBatchWriter.insertAll(customers);
+            customers.forEach(customer -> identificationFilter.put(customer.getIdentification()));
+        } catch (DataAccessException e) {
+            log.error("Database error while inserting {} customers", customers.size(), e);
+            throw new DatabaseException("Error saving customers: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public Customer findByCustomerId(String customerId) {
         try {
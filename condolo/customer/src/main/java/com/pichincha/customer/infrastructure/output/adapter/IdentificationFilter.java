@@ -0,0 +1,47 @@
+package com.pichincha.customer.infrastructure.output.adapter;
+
+import com.pichincha.customer.application.cache.UniquenessFilter;
+import com.pichincha.customer.infrastructure.output.repository.PersonRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bloom filter of every {@code persons.identification}, loaded by a streamed scan once the application
+ * is ready and fed by each person or customer save.
+ */
+@Component
+public class IdentificationFilter extends UniquenessFilter {
+
+    private final PersonRepository personRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public IdentificationFilter(PersonRepository personRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${customer.identification-filter.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${customer.identification-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        super("customer.identification.filter", meterRegistry, expectedInsertions, falsePositiveProbability);
+        this.personRepository = personRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread.ofVirtual().name("identification-filter-load").start(this::reload);
+    }
+
+    public void reload() {
+        this.rebuild(sink -> this.transactionTemplate.executeWithoutResult(status -> {
+            try (var identifications = this.personRepository.streamIdentifications()) {
+                identifications.forEach(sink);
+            }
+        }));
+    }
+}
@@ -1,17 +1,26 @@
 package com.pichincha.customer.infrastructure.output.adapter;
 
+import com.pichincha.customer.application.cache.UniquenessFilter;
 import com.pichincha.customer.application.exception.DatabaseException;
 import com.pichincha.customer.application.output.port.PersonOutPort;
 import com.pichincha.customer.domain.Person;
 import com.pichincha.customer.application.exception.ResourceNotFoundException;
+import com.pichincha.customer.application.exception.ValidationException;
 import com.pichincha.customer.infrastructure.output.repository.PersonRepository;
 import com.pichincha.customer.infrastructure.output.repository.mapper.PersonMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -22,31 +31,57 @@ public class PersonOutAdapter implements PersonOutPort {
 
     private final PersonRepository personRepository;
 
+    private final IdentificationFilter identificationFilter;
+
+    private final EntityManager entityManager;
+
     @Override
     public Person save(Person person) {
         try {
-            return personMapper.convertToDomain(
-                    personRepository.save(
+            Person saved = personMapper.convertToDomain(
+                    personRepository.saveAndFlush(
                             personMapper.convertToEntity(person)
                     )
             );
+            identificationFilter.put(saved.getIdentification());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (!UniquenessFilter.isDuplicate(e, "identification")) {
+                log.error("Database error while saving person", e);
+                throw new DatabaseException("Error saving person: " + e.getMessage(), e);
+            }
+            identificationFilter.put(person.getIdentification());
+            throw new ValidationException("The identification is already in use.");
         } catch (DataAccessException e) {
             log.error("Database error while saving person", e);
             throw new DatabaseException("Error saving person: " + e.getMessage(), e);
         }
     }
     @Override
-    public Collection<Person> findAll() {
+    public Page<Person> findAll(Pageable pageable) {
         try {
-            return personRepository.findAll().stream()
-                    .map(personMapper::convertToDomain)
-                    .toList();
+            return personRepository.findAll(pageable)
+                    .map(personMapper::convertToDomain);
         } catch (DataAccessException e) {
             log.error("Database error while finding all persons", e);
             throw new DatabaseException("Error retrieving persons: " + e.getMessage(), e);
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Person> consumer) {
+        try (var rows = personRepository.streamAll()) {
+            rows.forEach(row -> {
+                consumer.accept(personMapper.convertToDomain(row));
+                entityManager.detach(row);
+            });
+        } catch (DataAccessException e) {
+            log.error("Database error while streaming persons", e);
+            throw new DatabaseException("Error retrieving persons: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public Person findById(String id) {
         try {
@@ -77,6 +112,30 @@ public class PersonOutAdapter implements PersonOutPort {
         }
     }
 
+    @Override
+    public boolean existsByIdentification(String identification, String identificationUpdate) {
+        try {
+            if (identification == null || identification.equals(identificationUpdate)) {
+                return false;
+            }
+            return identificationFilter.exists(identification,
+                    value -> personRepository.findIdByIdentification(value, identificationUpdate).isPresent());
+        } catch (DataAccessException e) {
+            log.error("Database error while checking identification: {}", identification, e);
+            throw new DatabaseException("Error checking identification: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Set<String> findExistingIdentifications(Collection<String> identifications) {
+        try {
+            return identificationFilter.existing(identifications, personRepository::findIdentificationsIn);
+        } catch (DataAccessException e) {
+            log.error("Database error while checking {} identifications", identifications.size(), e);
+            throw new DatabaseException("Error checking identifications: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public void delete(String id) {
         try {
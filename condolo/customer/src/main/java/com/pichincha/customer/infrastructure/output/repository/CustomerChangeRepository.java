@@ -0,0 +1,16 @@
+package com.pichincha.customer.infrastructure.output.repository;
+
+import com.pichincha.customer.infrastructure.output.repository.entity.CustomerChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CustomerChangeRepository extends JpaRepository<CustomerChange, Long> {
+
+    List<CustomerChange> findByChangeIdGreaterThanAndChangedAtBeforeOrderByChangeId(
+            Long changeId, LocalDateTime changedBefore, Pageable pageable);
+}
@@ -1,12 +1,51 @@
 package com.pichincha.customer.infrastructure.output.repository;
 
 import com.pichincha.customer.infrastructure.output.repository.entity.Customer;
+import com.pichincha.customer.infrastructure.output.repository.projection.CustomerDetailView;
+import com.pichincha.customer.infrastructure.output.repository.projection.CustomerSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, String> {
+
+    String SELECT_SUMMARY = "SELECT new com.pichincha.customer.infrastructure.output.repository.projection." +
+            "CustomerSummaryView(c.personId, c.customerId, c.name, c.gender, c.age, c.identification, " +
+            "c.phone, c.status) FROM Customer c ";
+
+    String SELECT_DETAIL = "SELECT new com.pichincha.customer.infrastructure.output.repository.projection." +
+            "CustomerDetailView(c.personId, c.customerId, c.name, c.gender, c.age, c.identification, " +
+            "c.address, c.phone, c.status) FROM Customer c ";
+
     Optional<Customer> findByCustomerId(String customerId);
-}
\ No newline at end of file
+
+    @Query(SELECT_DETAIL + "WHERE c.customerId = :customerId")
+    Optional<CustomerDetailView> findDetailByCustomerId(String customerId);
+
+    @Query(value = SELECT_SUMMARY, countQuery = "SELECT COUNT(c) FROM Customer c")
+    Page<CustomerSummaryView> findSummaries(Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE c.customerId IN :customerIds")
+    List<CustomerSummaryView> findSummariesByCustomerIdIn(Collection<String> customerIds);
+
+    @Query(SELECT_SUMMARY + "ORDER BY c.personId")
+    List<CustomerSummaryView> findFirstPage(Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE c.personId > :afterId ORDER BY c.personId")
+    List<CustomerSummaryView> findPageAfter(String afterId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SELECT_SUMMARY)
+    Stream<CustomerSummaryView> streamSummaries();
+}
@@ -1,11 +1,17 @@
 package com.pichincha.customer.infrastructure.output.repository;
 
 import com.pichincha.customer.infrastructure.output.repository.entity.Person;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PersonRepository extends JpaRepository<Person, String> {
@@ -14,4 +20,27 @@ public interface PersonRepository extends JpaRepository<Person, String> {
             "WHERE (:identificationUpdate IS NULL OR p.identification <> :identificationUpdate) " +
             "AND p.identification = :identification")
     Optional<Person> findByIdentification(String identification, String identificationUpdate);
-}
\ No newline at end of file
+
+    @Query(value = "SELECT p.person_id FROM persons p " +
+            "WHERE p.identification = :identification " +
+            "AND (:identificationUpdate IS NULL OR p.identification <> :identificationUpdate) " +
+            "LIMIT 1", nativeQuery = true)
+    Optional<String> findIdByIdentification(String identification, String identificationUpdate);
+
+    @Query("SELECT p.identification FROM Person p WHERE p.identification IN :identifications")
+    List<String> findIdentificationsIn(Collection<String> identifications);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.identification FROM Person p")
+    Stream<String> streamIdentifications();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Person p ORDER BY p.personId")
+    Stream<Person> streamAll();
+}
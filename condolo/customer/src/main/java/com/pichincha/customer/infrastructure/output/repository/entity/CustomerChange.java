@@ -0,0 +1,34 @@
+package com.pichincha.customer.infrastructure.output.repository.entity;
+
+import com.pichincha.customer.domain.enums.ChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "customer_changes")
+public class CustomerChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long changeId;
+
+    @Column(name = "customer_id", nullable = false, length = 36)
+    private String customerId;
+
+    private boolean status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,17 @@
+package com.pichincha.customer.infrastructure.output.repository.mapper;
+
+import com.pichincha.customer.domain.CustomerChange;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(
+    componentModel = MappingConstants.ComponentModel.SPRING,
+    builder = @Builder(disableBuilder = true)
+)
+public interface CustomerChangeMapper {
+
+    CustomerChange convertToDomain(com.pichincha.customer.infrastructure.output.repository.entity.CustomerChange entity);
+
+    com.pichincha.customer.infrastructure.output.repository.entity.CustomerChange convertToEntity(CustomerChange domain);
+}
@@ -1,8 +1,11 @@
 package com.pichincha.customer.infrastructure.output.repository.mapper;
 
 import com.pichincha.customer.domain.Customer;
+import com.pichincha.customer.infrastructure.output.repository.projection.CustomerDetailView;
+import com.pichincha.customer.infrastructure.output.repository.projection.CustomerSummaryView;
 import org.mapstruct.Builder;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
 @Mapper(
@@ -13,6 +16,13 @@ public interface CustomerMapper {
 
     Customer convertToDomain(com.pichincha.customer.infrastructure.output.repository.entity.Customer entity);
 
+    @Mapping(target = "address", ignore = true)
+    @Mapping(target = "password", ignore = true)
+    Customer convertToDomain(CustomerSummaryView view);
+
+    @Mapping(target = "password", ignore = true)
+    Customer convertToDomain(CustomerDetailView view);
+
     com.pichincha.customer.infrastructure.output.repository.entity.Customer convertToEntity(Customer domain);
 
 }
@@ -0,0 +1,16 @@
+package com.pichincha.customer.infrastructure.output.repository.projection;
+
+/**
+ * Every customer column except the password hash, for single-customer reads.
+ */
+public record CustomerDetailView(
+        String personId,
+        String customerId,
+        String name,
+        String gender,
+        short age,
+        String identification,
+        String address,
+        String phone,
+        boolean status) {
+}
@@ -0,0 +1,15 @@
+package com.pichincha.customer.infrastructure.output.repository.projection;
+
+/**
+ * Columns a customer list needs; address and the password hash are never selected.
+ */
+public record CustomerSummaryView(
+        String personId,
+        String customerId,
+        String name,
+        String gender,
+        short age,
+        String identification,
+        String phone,
+        boolean status) {
+}
@@ -0,0 +1,100 @@
+package com.pichincha.customer.application.search;
+
+import com.pichincha.customer.application.output.port.CustomerOutPort;
+import com.pichincha.customer.domain.Customer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerSearchIndexTest {
+
+    @Mock
+    private CustomerOutPort customerOutPort;
+
+    private CustomerSearchIndex customerSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        customerSearchIndex = new CustomerSearchIndex(customerOutPort, new SimpleMeterRegistry());
+        customerSearchIndex.index(customer("1", "JOSE LEMA", "1712345678"));
+        customerSearchIndex.index(customer("2", "MARIANELA MONTALVO", "1798765432"));
+        customerSearchIndex.index(customer("3", "JUAN OSORIO", "0912345678"));
+    }
+
+    @Test
+    void should_findByNamePrefix_when_queryStartsAWord() {
+        List<Customer> result = customerSearchIndex.search("mont", 10);
+
+        assertThat(result).extracting(Customer::getCustomerId).containsExactly("2");
+    }
+
+    @Test
+    void should_findByIdentificationPrefix_when_queryIsNumeric() {
+        List<Customer> result = customerSearchIndex.search("17", 10);
+
+        assertThat(result).extracting(Customer::getCustomerId).containsExactlyInAnyOrder("1", "2");
+    }
+
+    @Test
+    void should_tolerateTypos_when_queryIsMisspelled() {
+        List<Customer> result = customerSearchIndex.search("Osorrio", 10);
+
+        assertThat(result).extracting(Customer::getCustomerId).first().isEqualTo("3");
+    }
+
+    @Test
+    void should_ignoreAccents_when_matchingNames() {
+        List<Customer> result = customerSearchIndex.search("José", 10);
+
+        assertThat(result).extracting(Customer::getCustomerId).first().isEqualTo("1");
+    }
+
+    @Test
+    void should_limitResults_when_manyCustomersMatch() {
+        assertThat(customerSearchIndex.search("1", 1)).hasSize(1);
+    }
+
+    @Test
+    void should_reindexUpdatedCustomer_when_nameChanges() {
+        customerSearchIndex.index(customer("1", "JOSE PEREZ", "1712345678"));
+
+        assertThat(customerSearchIndex.search("lema", 10)).isEmpty();
+        assertThat(customerSearchIndex.search("perez", 10)).extracting(Customer::getCustomerId).containsExactly("1");
+    }
+
+    @Test
+    void should_keepWrittenVersion_when_reloadStreamsOlderRow() {
+        doAnswer(invocation -> {
+            Consumer<Customer> consumer = invocation.getArgument(0);
+            customerSearchIndex.index(customer("4", "ANA TORRES", "1700000004"));
+            consumer.accept(customer("4", "ANA VIEJA", "1700000004"));
+            return null;
+        }).when(customerOutPort).streamAll(any());
+
+        customerSearchIndex.reload();
+
+        assertThat(customerSearchIndex.search("torres", 10)).extracting(Customer::getCustomerId).containsExactly("4");
+        assertThat(customerSearchIndex.search("vieja", 10)).isEmpty();
+    }
+
+    private static Customer customer(String customerId, String name, String identification) {
+        return Customer.builder()
+                .customerId(customerId)
+                .personId("P" + customerId)
+                .name(name)
+                .identification(identification)
+                .status(true)
+                .build();
+    }
+}
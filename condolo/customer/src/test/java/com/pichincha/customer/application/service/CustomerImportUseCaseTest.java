@@ -0,0 +1,140 @@
+package com.pichincha.customer.application.service;
+
+import com.pichincha.customer.application.exception.DatabaseException;
+import com.pichincha.customer.application.output.port.CustomerChangeOutPort;
+import com.pichincha.customer.application.output.port.CustomerOutPort;
+import com.pichincha.customer.application.output.port.PersonOutPort;
+import com.pichincha.customer.application.search.CustomerSearchIndex;
+import com.pichincha.customer.domain.Customer;
+import com.pichincha.customer.domain.CustomerImportRow;
+import com.pichincha.customer.domain.ImportResult;
+import com.pichincha.customer.domain.enums.ImportStatus;
+import com.pichincha.customer.infrastructure.input.adapter.rest.bean.PooledPasswordEncoder;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerImportUseCaseTest {
+
+    @Mock
+    private CustomerOutPort customerOutPort;
+
+    @Mock
+    private PersonOutPort personOutPort;
+
+    @Mock
+    private CustomerChangeOutPort customerChangeOutPort;
+
+    @Mock
+    private PooledPasswordEncoder passwordEncoder;
+
+    @Mock
+    private CustomerSearchIndex customerSearchIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CustomerImportUseCase customerImportUseCase;
+
+    @BeforeEach
+    void setUp() {
+        customerImportUseCase = new CustomerImportUseCase(customerOutPort, personOutPort, customerChangeOutPort,
+                passwordEncoder, Validation.buildDefaultValidatorFactory().getValidator(), customerSearchIndex, transactionManager,
+                500, 2);
+        lenient().when(passwordEncoder.encodeAsync(any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture("hashed:" + invocation.getArgument(0)));
+    }
+
+    @Test
+    void should_reportEveryRowInLineOrder_when_importingMixedRows() {
+        List<CustomerImportRow> rows = List.of(
+                row(1, customer("1111111111")),
+                row(2, customer("12345")),
+                CustomerImportRow.builder().line(3).error("The line is not a valid customer JSON").build(),
+                row(4, customer("1111111111")),
+                row(5, customer("2222222222")),
+                row(6, customer("3333333333")));
+        when(personOutPort.findExistingIdentifications(List.of("1111111111", "2222222222", "3333333333")))
+                .thenReturn(Set.of("2222222222"));
+        List<ImportResult> results = new ArrayList<>();
+
+        customerImportUseCase.importCustomers(rows.iterator(), results::add);
+
+        assertThat(results).extracting(ImportResult::getLine).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(results).extracting(ImportResult::getStatus).containsExactly(
+                ImportStatus.CREATED, ImportStatus.REJECTED, ImportStatus.REJECTED,
+                ImportStatus.REJECTED, ImportStatus.REJECTED, ImportStatus.CREATED);
+        assertThat(results.get(1).getError()).startsWith("identification:");
+        assertThat(results.get(3).getError()).isEqualTo("The identification is repeated in the import");
+        assertThat(results.get(4).getError()).isEqualTo("The identification is already registered");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Customer>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(customerOutPort).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(Customer::getIdentification)
+                .containsExactly("1111111111", "3333333333");
+        assertThat(inserted.getValue()).extracting(Customer::getPassword)
+                .containsOnly("hashed:Password123!");
+        assertThat(inserted.getValue()).extracting(Customer::getName).containsOnly("ANA LOPEZ");
+        verify(customerChangeOutPort).saveAll(anyList());
+    }
+
+    @Test
+    void should_insertRowByRow_when_batchInsertFails() {
+        List<CustomerImportRow> rows = List.of(row(1, customer("1111111111")), row(2, customer("3333333333")));
+        when(personOutPort.findExistingIdentifications(any())).thenReturn(Set.of());
+        doThrow(new DatabaseException("Duplicate entry"))
+                .doNothing()
+                .doThrow(new DatabaseException("Duplicate entry"))
+                .when(customerOutPort).insertAll(anyList());
+        List<ImportResult> results = new ArrayList<>();
+
+        customerImportUseCase.importCustomers(rows.iterator(), results::add);
+
+        assertThat(results).extracting(ImportResult::getStatus)
+                .containsExactly(ImportStatus.CREATED, ImportStatus.REJECTED);
+        verify(customerOutPort, times(3)).insertAll(anyList());
+    }
+
+    @Test
+    void should_notQueryOrInsert_when_everyRowIsInvalid() {
+        List<ImportResult> results = new ArrayList<>();
+
+        customerImportUseCase.importCustomers(List.of(row(1, customer("abc"))).iterator(), results::add);
+
+        assertThat(results).singleElement().extracting(ImportResult::getStatus).isEqualTo(ImportStatus.REJECTED);
+        verifyNoInteractions(personOutPort, customerOutPort, customerChangeOutPort);
+    }
+
+    private static CustomerImportRow row(long line, Customer customer) {
+        return CustomerImportRow.builder().line(line).customer(customer).build();
+    }
+
+    private static Customer customer(String identification) {
+        return Customer.builder()
+                .name("Ana Lopez")
+                .gender("Femenino")
+                .age((short) 30)
+                .identification(identification)
+                .address("Av Amazonas 123")
+                .phone("0991234567")
+                .password("Password123!")
+                .build();
+    }
+}
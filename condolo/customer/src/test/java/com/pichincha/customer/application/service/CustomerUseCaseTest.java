@@ -1,11 +1,16 @@
 package com.pichincha.customer.application.service;
 
-import com.pichincha.customer.application.exception.ResourceNotFoundException;
 import com.pichincha.customer.application.input.port.PersonService;
 import com.pichincha.customer.application.mapper.NewCustomerMapper;
+import com.pichincha.customer.application.output.port.CustomerChangeOutPort;
 import com.pichincha.customer.application.output.port.CustomerOutPort;
 import com.pichincha.customer.application.exception.ValidationException;
+import com.pichincha.customer.application.pagination.CursorCodec;
+import com.pichincha.customer.application.search.CustomerSearchIndex;
 import com.pichincha.customer.domain.Customer;
+import com.pichincha.customer.domain.CursorPage;
+import com.pichincha.customer.domain.CustomerChange;
+import com.pichincha.customer.domain.enums.ChangeType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,7 +23,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,6 +42,9 @@ class CustomerUseCaseTest {
     @Mock
     private CustomerOutPort customerOutPort;
 
+    @Mock
+    private CustomerChangeOutPort customerChangeOutPort;
+
     @Mock
     private PersonService personService;
 
@@ -41,6 +54,9 @@ class CustomerUseCaseTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private CustomerSearchIndex customerSearchIndex;
+
     @InjectMocks
     private CustomerUseCase customerUseCase;
 
@@ -69,7 +85,7 @@ class CustomerUseCaseTest {
                 .password("Password123!")
                 .build();
 
-        when(personService.findByIdentification(anyString(), any())).thenReturn(sampleCustomer);
+        when(personService.existsByIdentification(anyString(), any())).thenReturn(true);
 
         assertThatThrownBy(() -> customerUseCase.create(customerToCreate))
                 .isInstanceOf(ValidationException.class)
@@ -133,8 +149,8 @@ class CustomerUseCaseTest {
                 .phone("0999888777")
                 .build();
 
-        when(customerOutPort.findById(customerId)).thenReturn(existingCustomer);
-        when(personService.findByIdentification(anyString(), anyString())).thenThrow(new ResourceNotFoundException("Not found"));
+        when(customerOutPort.findByCustomerId(customerId)).thenReturn(existingCustomer);
+        when(personService.existsByIdentification(anyString(), anyString())).thenReturn(false);
         when(customerOutPort.save(any(Customer.class))).thenReturn(updatedCustomer);
 
         Customer result = customerUseCase.update(updateData);
@@ -144,9 +160,9 @@ class CustomerUseCaseTest {
         assertThat(result.getName()).isEqualTo("Juan Carlos Updated");
         assertThat(result.getPhone()).isEqualTo("0999888777");
 
-        verify(customerOutPort).findById(customerId);
+        verify(customerOutPort).findByCustomerId(customerId);
         verify(customerMapper).updateCustomer(updateData, existingCustomer);
-        verify(personService).findByIdentification(existingCustomer.getIdentification(), existingCustomer.getIdentification());
+        verify(personService).existsByIdentification(existingCustomer.getIdentification(), existingCustomer.getIdentification());
         verify(customerOutPort).save(existingCustomer);
     }
 
@@ -158,13 +174,14 @@ class CustomerUseCaseTest {
                 .password("Password123!")
                 .build();
 
-        when(personService.findByIdentification(anyString(), any())).thenThrow(new ResourceNotFoundException("Not found"));
+        when(personService.existsByIdentification(anyString(), any())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
         when(customerOutPort.save(any(Customer.class))).thenReturn(customer);
 
         customerUseCase.create(customer);
 
-        verify(personService).findByIdentification(customer.getIdentification(), null);
+        verify(personService).existsByIdentification(customer.getIdentification(), null);
+        verify(customerSearchIndex).index(customer);
     }
 
     @Test
@@ -176,7 +193,7 @@ class CustomerUseCaseTest {
                 .password(plainPassword)
                 .build();
 
-        when(personService.findByIdentification(anyString(), any())).thenThrow(new ResourceNotFoundException("Not found"));
+        when(personService.existsByIdentification(anyString(), any())).thenReturn(false);
         when(passwordEncoder.encode(plainPassword)).thenReturn("$2a$10$encodedPasswordHash");
         when(customerOutPort.save(any(Customer.class))).thenReturn(customer);
 
@@ -187,4 +204,112 @@ class CustomerUseCaseTest {
             "$2a$10$encodedPasswordHash".equals(c.getPassword())
         ));
     }
+
+    @Test
+    void should_returnNextCursor_when_morePagesExist() {
+        Customer first = Customer.builder().personId("a").build();
+        Customer second = Customer.builder().personId("b").build();
+        Customer third = Customer.builder().personId("c").build();
+        when(customerOutPort.findPage(null, 3)).thenReturn(List.of(first, second, third));
+
+        CursorPage<Customer> result = customerUseCase.findAllAfter(null, 2, false);
+
+        assertThat(result.getContent()).containsExactly(first, second);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(CursorCodec.encode("b"));
+        assertThat(result.getTotalElements()).isNull();
+        verify(customerOutPort, never()).count();
+    }
+
+    @Test
+    void should_seekAfterCursor_when_cursorProvided() {
+        when(customerOutPort.findPage("b", 11)).thenReturn(List.of());
+        when(customerOutPort.count()).thenReturn(2L);
+
+        CursorPage<Customer> result = customerUseCase.findAllAfter(CursorCodec.encode("b"), 10, true);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalElements()).isEqualTo(2L);
+    }
+
+    @Test
+    void should_throwValidationException_when_cursorIsInvalid() {
+        String cursor = CursorCodec.encode("a", "b");
+
+        assertThatThrownBy(() -> customerUseCase.findAllAfter(cursor, 10, false))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("The cursor is not valid");
+    }
+
+    @Test
+    void should_returnCustomersKeyedById_when_lookingUpIds() {
+        Customer other = Customer.builder().customerId("2").build();
+        when(customerOutPort.findByCustomerIds(Set.of("1", "2", "3"))).thenReturn(List.of(sampleCustomer, other));
+
+        Map<String, Customer> result = customerUseCase.findByIds(List.of("1", "2", "1", "3"));
+
+        assertThat(result).containsOnlyKeys("1", "2");
+        assertThat(result.get("1")).isSameAs(sampleCustomer);
+    }
+
+    @Test
+    void should_skipQuery_when_lookupIsEmpty() {
+        assertThat(customerUseCase.findByIds(Collections.emptyList())).isEmpty();
+
+        verify(customerOutPort, never()).findByCustomerIds(any());
+    }
+
+    @Test
+    void should_throwValidationException_when_lookupHasTooManyIds() {
+        List<String> ids = IntStream.range(0, 501).mapToObj(String::valueOf).collect(Collectors.toList());
+
+        assertThatThrownBy(() -> customerUseCase.findByIds(ids))
+                .isInstanceOf(ValidationException.class);
+        verify(customerOutPort, never()).findByCustomerIds(any());
+    }
+
+    @Test
+    void should_recordCreatedChange_when_creatingCustomer() {
+        Customer customer = Customer.builder()
+                .name("test user")
+                .identification("5555555555")
+                .password("Password123!")
+                .build();
+        Customer saved = Customer.builder().customerId("9").status(true).build();
+
+        when(personService.existsByIdentification(anyString(), any())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(customerOutPort.save(any(Customer.class))).thenReturn(saved);
+
+        customerUseCase.create(customer);
+
+        verify(customerChangeOutPort).save(argThat(change ->
+                "9".equals(change.getCustomerId())
+                        && change.isStatus()
+                        && change.getChangeType() == ChangeType.CREATED));
+    }
+
+    @Test
+    void should_recordDeletedChange_when_deletingCustomer() {
+        when(customerOutPort.findByCustomerId("1")).thenReturn(sampleCustomer);
+
+        customerUseCase.delete("1");
+
+        verify(customerChangeOutPort).save(argThat(change ->
+                "1".equals(change.getCustomerId())
+                        && !change.isStatus()
+                        && change.getChangeType() == ChangeType.DELETED));
+    }
+
+    @Test
+    void should_returnSettledChanges_when_readingFeed() {
+        CustomerChange change = CustomerChange.builder().changeId(4L).customerId("1").build();
+        when(customerChangeOutPort.findAfter(eq(3L), any(), eq(100))).thenReturn(List.of(change));
+
+        List<CustomerChange> result = customerUseCase.findChanges(3L, 100);
+
+        assertThat(result).containsExactly(change);
+    }
 }
@@ -9,9 +9,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -64,7 +69,7 @@ class PersonUseCaseTest {
                 .phone("0987123456")
                 .build();
 
-        when(personOutPort.findByIdentification(anyString(), any())).thenReturn(null);
+        when(personOutPort.existsByIdentification(anyString(), any())).thenReturn(false);
         when(personOutPort.save(any(Person.class))).thenReturn(savedPerson);
 
         Person result = personUseCase.create(personToCreate);
@@ -74,7 +79,7 @@ class PersonUseCaseTest {
         assertThat(result.getName()).isEqualTo("Carlos Rodriguez");
         assertThat(result.getIdentification()).isEqualTo("1357924680");
 
-        verify(personOutPort).findByIdentification(personToCreate.getIdentification(), null);
+        verify(personOutPort).existsByIdentification(personToCreate.getIdentification(), null);
         verify(personOutPort).save(personToCreate);
     }
 
@@ -85,7 +90,7 @@ class PersonUseCaseTest {
                 .identification("0987654321") // Same as existing person
                 .build();
 
-        when(personOutPort.findByIdentification(anyString(), any())).thenReturn(samplePerson);
+        when(personOutPort.existsByIdentification(anyString(), any())).thenReturn(true);
 
         assertThatThrownBy(() -> personUseCase.create(personToCreate))
                 .isInstanceOf(ValidationException.class)
@@ -105,15 +110,30 @@ class PersonUseCaseTest {
                         .build()
         );
 
-        when(personOutPort.findAll()).thenReturn(personList);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(personOutPort.findAll(pageable)).thenReturn(new PageImpl<>(personList, pageable, 2));
 
-        Collection<Person> result = personUseCase.findAll();
+        Page<Person> result = personUseCase.findAll(pageable);
 
         assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
-        assertThat(result).contains(samplePerson);
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getContent()).contains(samplePerson);
 
-        verify(personOutPort).findAll();
+        verify(personOutPort).findAll(pageable);
+    }
+
+    @Test
+    void should_passEveryPersonToConsumer_when_streamingAll() {
+        doAnswer(invocation -> {
+            Consumer<Person> consumer = invocation.getArgument(0);
+            consumer.accept(samplePerson);
+            return null;
+        }).when(personOutPort).streamAll(any());
+        List<Person> received = new ArrayList<>();
+
+        personUseCase.streamAll(received::add);
+
+        assertThat(received).containsExactly(samplePerson);
     }
 
     @Test
@@ -159,7 +179,7 @@ class PersonUseCaseTest {
                 .build();
 
         when(personOutPort.findById(personId)).thenReturn(existingPerson);
-        when(personOutPort.findByIdentification(anyString(), anyString())).thenReturn(null);
+        when(personOutPort.existsByIdentification(anyString(), anyString())).thenReturn(false);
         when(personOutPort.save(any(Person.class))).thenReturn(updatedPerson);
 
         Person result = personUseCase.update(updateData);
@@ -171,7 +191,7 @@ class PersonUseCaseTest {
         assertThat(result.getAddress()).isEqualTo("New Address 123");
 
         verify(personOutPort).findById(personId);
-        verify(personOutPort).findByIdentification("0987654321", "0987654321");
+        verify(personOutPort).existsByIdentification("0987654321", "0987654321");
         verify(personOutPort).save(any(Person.class));
     }
 
@@ -222,13 +242,13 @@ class PersonUseCaseTest {
                 .identification("5555555555")
                 .build();
 
-        when(personOutPort.findByIdentification(anyString(), any())).thenReturn(null);
+        when(personOutPort.existsByIdentification(anyString(), any())).thenReturn(false);
         when(personOutPort.save(any(Person.class))).thenReturn(personToCreate);
 
         Person result = personUseCase.create(personToCreate);
 
         assertThat(result).isNotNull();
-        verify(personOutPort).findByIdentification(personToCreate.getIdentification(), null);
+        verify(personOutPort).existsByIdentification(personToCreate.getIdentification(), null);
         verify(personOutPort).save(personToCreate);
     }
 }
@@ -0,0 +1,74 @@
+package com.pichincha.customer.infrastructure.input.adapter.rest.bean;
+
+import com.pichincha.customer.application.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PooledPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PooledPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    void should_hashOnPool_when_encoding() {
+        encoder = new PooledPasswordEncoder(new PrefixEncoder(null), 2, 10, Duration.ofSeconds(5), meterRegistry);
+
+        assertThat(encoder.encode("secret")).isEqualTo("hashed:secret");
+        assertThat(encoder.matches("secret", "hashed:secret")).isTrue();
+        assertThat(meterRegistry.get("customer.password.hashing.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_rejectHashing_when_queueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new PooledPasswordEncoder(new PrefixEncoder(release), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        CompletableFuture<String> running = encoder.encodeAsync("first");
+        CompletableFuture<String> queued = encoder.encodeAsync("second");
+        while (meterRegistry.get("customer.password.hashing.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> encoder.encodeAsync("third"))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        assertThat(running.get()).isEqualTo("hashed:first");
+        assertThat(queued.get()).isEqualTo("hashed:second");
+    }
+
+    private record PrefixEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return ("hashed:" + rawPassword).equals(encodedPassword);
+        }
+    }
+}
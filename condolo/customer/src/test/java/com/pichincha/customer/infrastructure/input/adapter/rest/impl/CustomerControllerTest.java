@@ -18,7 +18,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -124,6 +126,24 @@ class CustomerControllerTest {
         verify(customerService, times(1)).findById(customerId);
     }
 
+    @Test
+    void should_returnCustomersByIdWithoutPassword_when_lookupRequested() throws Exception {
+
+        Map<String, Customer> customers = new HashMap<>(Map.of("1", sampleCustomer));
+        when(customerService.findByIds(List.of("1", "2"))).thenReturn(customers);
+
+
+        mockMvc.perform(post("/v1/customers/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of("1", "2"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['1'].customerId").value("1"))
+                .andExpect(jsonPath("$['1'].password").doesNotExist())
+                .andExpect(jsonPath("$['2']").doesNotExist());
+
+        verify(customerService, times(1)).findByIds(List.of("1", "2"));
+    }
+
     @Test
     void should_returnUpdatedCustomer_when_validDataProvided() throws Exception {
 
@@ -0,0 +1,81 @@
+package com.pichincha.customer.infrastructure.output.adapter;
+
+import com.pichincha.customer.application.exception.DatabaseException;
+import com.pichincha.customer.application.exception.ValidationException;
+import com.pichincha.customer.domain.Person;
+import com.pichincha.customer.infrastructure.output.repository.PersonRepository;
+import com.pichincha.customer.infrastructure.output.repository.mapper.PersonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PersonOutAdapterTest {
+
+    @Mock
+    private PersonMapper personMapper;
+
+    @Mock
+    private PersonRepository personRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private PersonOutAdapter personOutAdapter;
+
+    private Person person;
+
+    @BeforeEach
+    void setUp() {
+        IdentificationFilter identificationFilter = new IdentificationFilter(personRepository, transactionManager,
+                new SimpleMeterRegistry(), 10_000, 0.01);
+        identificationFilter.rebuild(sink -> { });
+        personOutAdapter = new PersonOutAdapter(personMapper, personRepository, identificationFilter, entityManager);
+        person = Person.builder().name("Ana Martinez").identification("0987654321").build();
+        when(personMapper.convertToEntity(person))
+                .thenReturn(new com.pichincha.customer.infrastructure.output.repository.entity.Person());
+    }
+
+    @Test
+    void should_throwValidationException_when_duplicateIdentificationMissedByFilter() {
+        when(personRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("could not execute",
+                new SQLIntegrityConstraintViolationException(
+                        "Duplicate entry '0987654321' for key 'persons.identification'")));
+
+        assertThat(personOutAdapter.existsByIdentification("0987654321", null)).isFalse();
+        assertThatThrownBy(() -> personOutAdapter.save(person))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("The identification is already in use.");
+
+        when(personRepository.findIdByIdentification(anyString(), isNull())).thenReturn(Optional.of("1"));
+        assertThat(personOutAdapter.existsByIdentification("0987654321", null)).isTrue();
+    }
+
+    @Test
+    void should_throwDatabaseException_when_otherIntegrityViolation() {
+        when(personRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("could not execute",
+                new SQLIntegrityConstraintViolationException("Column 'name' cannot be null")));
+
+        assertThatThrownBy(() -> personOutAdapter.save(person))
+                .isInstanceOf(DatabaseException.class);
+    }
+}